@@ -0,0 +1,88 @@
+package com.example.inventorymanagement.benchmark;
+
+import com.example.inventorymanagement.InventoryManagementApplication;
+import com.example.inventorymanagement.model.Product;
+import com.example.inventorymanagement.repository.ProductRepository;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Starts the application without a web server against a private in-memory H2 database and
+ * seeds it with a catalog, once per benchmark fork.
+ */
+@State(Scope.Benchmark)
+public class InventoryState {
+    static final int PRODUCTS = 10_000;
+    static final int SEED_BATCH = 1_000;
+    
+    ConfigurableApplicationContext context;
+    List<Long> productIds;
+    List<Long> orderableProductIds;
+    
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(InventoryManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.inventorymanagement=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+                .run();
+        seed(context.getBean(ProductRepository.class));
+    }
+    
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+    
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+    
+    Long randomProductId() {
+        return productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+    }
+    
+    Long randomOrderableProductId() {
+        return orderableProductIds.get(ThreadLocalRandom.current().nextInt(orderableProductIds.size()));
+    }
+    
+    private void seed(ProductRepository productRepository) {
+        productIds = new ArrayList<>(PRODUCTS);
+        orderableProductIds = new ArrayList<>(PRODUCTS);
+        List<Product> batch = new ArrayList<>(SEED_BATCH);
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = new Product();
+            product.name = "Catalog Item " + i;
+            product.description = "Seeded product " + i;
+            product.price = 1.0 + i % 500;
+            // Every 50th product is low on stock; the rest never run out during a run
+            product.quantity = i % 50 == 0 ? i % 5 : 1_000_000_000;
+            product.category = "Category " + i % 20;
+            batch.add(product);
+            if (batch.size() == SEED_BATCH || i == PRODUCTS - 1) {
+                for (Product saved : productRepository.saveAll(batch)) {
+                    productIds.add(saved.id);
+                    if (saved.quantity > 5) {
+                        orderableProductIds.add(saved.id);
+                    }
+                }
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.inventorymanagement.benchmark;
+
+import com.example.inventorymanagement.model.Order;
+import com.example.inventorymanagement.model.OrderItem;
+import com.example.inventorymanagement.model.Product;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes order graphs with the application's configured {@link ObjectMapper}, the way
+ * the order list endpoints render them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class OrderSerializationBenchmark {
+    private static final int ORDERS = 100;
+    
+    @Param({"1", "20"})
+    public int linesPerOrder;
+    
+    private ObjectMapper objectMapper;
+    private List<Order> orders;
+    
+    @Setup
+    public void setup(InventoryState inventory) {
+        objectMapper = inventory.bean(ObjectMapper.class);
+        orders = new ArrayList<>(ORDERS);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = new Order();
+            order.id = (long) i;
+            order.customerName = "Benchmark Customer " + i;
+            order.customerEmail = "customer" + i + "@example.com";
+            order.status = "NEW";
+            order.orderDate = now;
+            double total = 0;
+            for (int j = 0; j < linesPerOrder; j++) {
+                Product product = new Product();
+                product.id = (long) j;
+                product.name = "Catalog Item " + j;
+                product.description = "Seeded product " + j;
+                product.price = 1.0 + j;
+                product.quantity = 100;
+                product.category = "Category " + j % 20;
+                product.createdAt = now;
+                product.updatedAt = now;
+                
+                OrderItem item = new OrderItem();
+                item.id = (long) (i * linesPerOrder + j);
+                item.product = product;
+                item.quantity = 1 + j % 3;
+                item.price = product.price;
+                item.order = order;
+                order.items.add(item);
+                total += item.price * item.quantity;
+            }
+            order.totalAmount = total;
+            orders.add(order);
+        }
+    }
+    
+    @Benchmark
+    public byte[] serializeOrderPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(orders);
+    }
+}
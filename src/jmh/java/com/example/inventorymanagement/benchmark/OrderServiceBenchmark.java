@@ -0,0 +1,52 @@
+package com.example.inventorymanagement.benchmark;
+
+import com.example.inventorymanagement.model.Order;
+import com.example.inventorymanagement.model.OrderItem;
+import com.example.inventorymanagement.model.Product;
+import com.example.inventorymanagement.service.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class OrderServiceBenchmark {
+    private static final int LINES_PER_ORDER = 3;
+    
+    private OrderService orderService;
+    private InventoryState inventory;
+    
+    @Setup
+    public void setup(InventoryState inventory) {
+        this.inventory = inventory;
+        this.orderService = inventory.bean(OrderService.class);
+    }
+    
+    @Benchmark
+    public Order createOrder() {
+        Order order = new Order();
+        order.customerName = "Benchmark Customer";
+        order.customerEmail = "benchmark@example.com";
+        for (int i = 0; i < LINES_PER_ORDER; i++) {
+            OrderItem item = new OrderItem();
+            item.product = new Product();
+            item.product.id = inventory.randomOrderableProductId();
+            item.quantity = 1;
+            order.items.add(item);
+        }
+        return orderService.createOrder(order);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.inventorymanagement.benchmark;
+
+import com.example.inventorymanagement.model.Product;
+import com.example.inventorymanagement.service.ProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ProductServiceBenchmark {
+    private ProductService productService;
+    private InventoryState inventory;
+    
+    @Setup
+    public void setup(InventoryState inventory) {
+        this.inventory = inventory;
+        this.productService = inventory.bean(ProductService.class);
+    }
+    
+    @Benchmark
+    public Product getProduct() {
+        return productService.getProduct(inventory.randomProductId());
+    }
+    
+    @Benchmark
+    public List<Product> searchProductByName() {
+        return productService.searchProductByName("item " + ThreadLocalRandom.current().nextInt(1_000), 50);
+    }
+    
+    @Benchmark
+    public List<Product> findLowStockProducts() {
+        return productService.findLowStockProducts(5);
+    }
+}
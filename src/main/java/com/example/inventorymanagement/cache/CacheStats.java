@@ -0,0 +1,15 @@
+package com.example.inventorymanagement.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStats {
+    public int size;
+    public int maxSize;
+    public long hits;
+    public long misses;
+    public long evictions;
+    public long invalidations;
+}
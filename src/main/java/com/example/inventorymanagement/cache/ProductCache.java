@@ -0,0 +1,209 @@
+package com.example.inventorymanagement.cache;
+
+import com.example.inventorymanagement.event.ProductChangedEvent;
+import com.example.inventorymanagement.model.Product;
+import com.example.inventorymanagement.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through cache in front of {@link ProductRepository#findById}.
+ * Entries are kept in LRU order up to a maximum size and expire after a TTL; ids that do not
+ * exist are cached too, with a shorter TTL. Committed product changes invalidate the entry.
+ * Cached products are shared between callers and must not be modified.
+ */
+@Component
+public class ProductCache {
+    private final ProductRepository productRepository;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final Map<Long, Entry> entries;
+    // Ids with a load in flight, guarded by the entries lock
+    private final Map<Long, Loading> loading = new HashMap<>();
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    @Autowired
+    public ProductCache(ProductRepository productRepository,
+                        @Value("${inventory.cache.product.max-size:10000}") int maxSize,
+                        @Value("${inventory.cache.product.ttl:5m}") Duration ttl,
+                        @Value("${inventory.cache.product.negative-ttl:30s}") Duration negativeTtl) {
+        this.productRepository = productRepository;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > ProductCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+    
+    public Optional<Product> findById(Long id) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(id);
+            if (entry != null && entry.expiresAt - now > 0) {
+                hits.incrementAndGet();
+                return Optional.ofNullable(entry.product);
+            }
+        }
+        
+        misses.incrementAndGet();
+        long generation;
+        synchronized (entries) {
+            generation = beginLoad(id);
+        }
+        Optional<Product> product;
+        try {
+            product = productRepository.findById(id);
+        } catch (RuntimeException ex) {
+            synchronized (entries) {
+                endLoad(id, generation);
+            }
+            throw ex;
+        }
+        long expiresAt = System.nanoTime() + (product.isPresent() ? ttlNanos : negativeTtlNanos);
+        synchronized (entries) {
+            if (endLoad(id, generation)) {
+                entries.put(id, new Entry(product.orElse(null), expiresAt));
+            }
+        }
+        return product;
+    }
+    
+    /**
+     * Bulk variant of {@link #findById}: cached ids are answered from memory and the rest are
+     * loaded with a single query. Ids that don't exist are absent from the returned map.
+     */
+    public Map<Long, Product> findAllById(Collection<Long> ids) {
+        Map<Long, Product> found = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        long now = System.nanoTime();
+        synchronized (entries) {
+            for (Long id : ids) {
+                Entry entry = entries.get(id);
+                if (entry != null && entry.expiresAt - now > 0) {
+                    hits.incrementAndGet();
+                    if (entry.product != null) {
+                        found.put(id, entry.product);
+                    }
+                } else {
+                    missing.add(id);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+        
+        misses.addAndGet(missing.size());
+        Map<Long, Long> generations = new HashMap<>();
+        synchronized (entries) {
+            missing.forEach(id -> generations.put(id, beginLoad(id)));
+        }
+        Map<Long, Product> loaded = new HashMap<>();
+        try {
+            productRepository.findAllById(missing).forEach(product -> loaded.put(product.id, product));
+        } catch (RuntimeException ex) {
+            synchronized (entries) {
+                generations.forEach(this::endLoad);
+            }
+            throw ex;
+        }
+        long loadedAt = System.nanoTime();
+        synchronized (entries) {
+            for (Long id : missing) {
+                if (endLoad(id, generations.get(id))) {
+                    Product product = loaded.get(id);
+                    entries.put(id, new Entry(product, loadedAt + (product != null ? ttlNanos : negativeTtlNanos)));
+                }
+            }
+        }
+        found.putAll(loaded);
+        return found;
+    }
+    
+    public void invalidate(Long id) {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.remove(id);
+            Loading inFlight = loading.get(id);
+            if (inFlight != null) {
+                inFlight.generation++;
+            }
+        }
+    }
+    
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.clear();
+            loading.values().forEach(inFlight -> inFlight.generation++);
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidate(event.productId);
+    }
+    
+    // A load may only cache its result if the id was not invalidated while it was loading, so each
+    // loader records the id's generation before reading and compares it afterwards.
+    // Both are called with the entries lock held.
+    private long beginLoad(Long id) {
+        Loading inFlight = loading.computeIfAbsent(id, key -> new Loading());
+        inFlight.loaders++;
+        return inFlight.generation;
+    }
+    
+    private boolean endLoad(Long id, long generation) {
+        Loading inFlight = loading.get(id);
+        if (--inFlight.loaders == 0) {
+            loading.remove(id);
+        }
+        return inFlight.generation == generation;
+    }
+    
+    public CacheStats stats() {
+        synchronized (entries) {
+            return new CacheStats(entries.size(), maxSize, hits.get(), misses.get(), evictions.get(), invalidations.get());
+        }
+    }
+    
+    private static class Loading {
+        int loaders;
+        long generation;
+    }
+    
+    private static class Entry {
+        final Product product;
+        final long expiresAt;
+        
+        Entry(Product product, long expiresAt) {
+            this.product = product;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
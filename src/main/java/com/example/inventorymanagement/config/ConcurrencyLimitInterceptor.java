@@ -0,0 +1,84 @@
+package com.example.inventorymanagement.config;
+
+import com.example.inventorymanagement.exception.ServerBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of API requests handled at once, by default at the size of the connection
+ * pool. With virtual threads nothing else bounds concurrency, and thousands of requests would
+ * otherwise all queue inside the pool and time out there; here they wait their turn in arrival
+ * order and are turned away with 503 if no permit frees up in time. A streaming response gives
+ * its permit back once the handler returns, before the body is written.
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+    
+    private final int maxConcurrentRequests;
+    private final long timeoutNanos;
+    private final Semaphore permits;
+    private final Counter rejected;
+    
+    @Autowired
+    public ConcurrencyLimitInterceptor(MeterRegistry registry,
+                                       @Value("${inventory.concurrency-limit.max-concurrent-requests:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrentRequests,
+                                       @Value("${inventory.concurrency-limit.timeout:5s}") Duration timeout) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.timeoutNanos = timeout.toNanos();
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        Gauge.builder("inventory.concurrency.limit.waiting", permits, Semaphore::getQueueLength)
+                .description("Requests waiting for a permit")
+                .register(registry);
+        this.rejected = Counter.builder("inventory.concurrency.limit.rejected")
+                .description("Requests turned away after waiting for a permit")
+                .register(registry);
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        // The dispatch that completes an async request was admitted already
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        if (!permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+            rejected.increment();
+            throw new ServerBusyException("Server is busy: more than " + maxConcurrentRequests
+                    + " requests in progress, retry later");
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+    
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        release(request);
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        release(request);
+    }
+    
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permits.release();
+        }
+    }
+}
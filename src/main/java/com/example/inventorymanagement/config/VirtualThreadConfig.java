@@ -0,0 +1,75 @@
+package com.example.inventorymanagement.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.annotation.PreDestroy;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs Tomcat request handling, and with it every blocking service and repository call, on
+ * virtual threads when {@code inventory.threads.virtual.enabled} is set. The executor is looked
+ * up reflectively so the application still builds for Java 11; on a JVM without virtual threads
+ * (before Java 21) the setting is logged and Tomcat keeps its platform thread pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "inventory.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig implements WebMvcConfigurer {
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+    
+    private final ExecutorService executor;
+    
+    public VirtualThreadConfig() {
+        this.executor = newVirtualThreadExecutor().orElse(null);
+        if (executor == null) {
+            log.warn("Virtual threads need Java 21 or later, running on Java {}; keeping the platform thread pool",
+                    Runtime.version().feature());
+        } else {
+            log.info("Handling requests on virtual threads");
+        }
+    }
+    
+    /**
+     * {@code Executors.newVirtualThreadPerTaskExecutor()}, or empty if this JVM has no virtual threads.
+     */
+    public static Optional<ExecutorService> newVirtualThreadExecutor() {
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+        } catch (ReflectiveOperationException ex) {
+            return Optional.empty();
+        }
+    }
+    
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> {
+            if (executor != null) {
+                protocolHandler.setExecutor(executor);
+            }
+        };
+    }
+    
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        // Streaming responses (order export) run on the MVC async executor rather than a request thread
+        if (executor != null) {
+            configurer.setTaskExecutor(new TaskExecutorAdapter(executor));
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.inventorymanagement.config;
+
+import com.example.inventorymanagement.metrics.SqlStatementAsyncInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+    private final ObjectProvider<ConcurrencyLimitInterceptor> concurrencyLimitInterceptor;
+    private final ObjectProvider<SqlStatementAsyncInterceptor> sqlStatementAsyncInterceptor;
+    
+    @Autowired
+    public WebConfig(ObjectProvider<ConcurrencyLimitInterceptor> concurrencyLimitInterceptor,
+                     ObjectProvider<SqlStatementAsyncInterceptor> sqlStatementAsyncInterceptor) {
+        this.concurrencyLimitInterceptor = concurrencyLimitInterceptor;
+        this.sqlStatementAsyncInterceptor = sqlStatementAsyncInterceptor;
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        concurrencyLimitInterceptor.ifAvailable(interceptor ->
+                registry.addInterceptor(interceptor).addPathPatterns("/api/**"));
+    }
+    
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        sqlStatementAsyncInterceptor.ifAvailable(configurer::registerCallableInterceptors);
+    }
+}
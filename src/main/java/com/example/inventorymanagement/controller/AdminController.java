@@ -0,0 +1,53 @@
+package com.example.inventorymanagement.controller;
+
+import com.example.inventorymanagement.cache.CacheStats;
+import com.example.inventorymanagement.cache.ProductCache;
+import com.example.inventorymanagement.dto.SlowQuery;
+import com.example.inventorymanagement.metrics.SlowQueryLog;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin")
+@Tag(name = "Admin API", description = "API for operational insight into the running service")
+public class AdminController {
+    private final ProductCache productCache;
+    private final SlowQueryLog slowQueryLog;
+    
+    @Autowired
+    public AdminController(ProductCache productCache, SlowQueryLog slowQueryLog) {
+        this.productCache = productCache;
+        this.slowQueryLog = slowQueryLog;
+    }
+    
+    @GetMapping("/cache/products")
+    @Operation(summary = "Get product cache statistics", description = "Retrieves size, hit, miss and eviction counters of the product cache")
+    public ResponseEntity<CacheStats> getProductCacheStats() {
+        return ResponseEntity.ok(productCache.stats());
+    }
+    
+    @DeleteMapping("/cache/products")
+    @Operation(summary = "Clear product cache", description = "Invalidates every entry of the product cache")
+    public ResponseEntity<Void> clearProductCache() {
+        productCache.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+    
+    @GetMapping("/slow-queries")
+    @Operation(summary = "Get slow queries", description = "Retrieves the most recent statements over the slow-query threshold, newest first, with bind parameters and execution plan")
+    public ResponseEntity<List<SlowQuery>> getSlowQueries() {
+        return ResponseEntity.ok(slowQueryLog.recent());
+    }
+    
+    @DeleteMapping("/slow-queries")
+    @Operation(summary = "Clear slow queries", description = "Empties the slow-query log")
+    public ResponseEntity<Void> clearSlowQueries() {
+        slowQueryLog.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,34 +1,67 @@
 package com.example.inventorymanagement.controller;
 
+import com.example.inventorymanagement.dto.OrderBatchResult;
+import com.example.inventorymanagement.dto.OrderIntakeStatus;
+import com.example.inventorymanagement.dto.OrderView;
 import com.example.inventorymanagement.model.Order;
+import com.example.inventorymanagement.service.OrderIntakeQueue;
 import com.example.inventorymanagement.service.OrderService;
+import com.example.inventorymanagement.utils.KeysetCursor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import javax.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/orders")
 @Tag(name = "Order API", description = "API for order management")
 public class OrderController {
     private final OrderService orderService;
+    private final OrderIntakeQueue orderIntakeQueue;
+    private final ObjectWriter ndjsonWriter;
     
     @Autowired
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, OrderIntakeQueue orderIntakeQueue, ObjectMapper objectMapper) {
         this.orderService = orderService;
+        this.orderIntakeQueue = orderIntakeQueue;
+        this.ndjsonWriter = objectMapper.writerFor(Order.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
     
     @GetMapping
-    @Operation(summary = "Get all orders", description = "Retrieves a list of all orders")
-    public ResponseEntity<List<Order>> getAllOrders() {
-        return ResponseEntity.ok(orderService.getAllOrders());
+    @Operation(summary = "Get all orders",
+            description = "Retrieves a page of orders ordered by ID; the next page cursor is returned in the X-Next-Cursor header. " +
+                    "view=summary or view=lines returns lightweight projections instead of full orders")
+    public ResponseEntity<List<?>> getAllOrders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "full") String view) {
+        Long afterId = KeysetCursor.decode(cursor);
+        switch (OrderView.from(view)) {
+            case SUMMARY:
+                return toPageResponse(orderService.getOrderSummaries(afterId, limit), o -> o.id);
+            case LINES:
+                return toPageResponse(orderService.getOrderDetails(afterId, limit), o -> o.id);
+            default:
+                return toPageResponse(orderService.getOrders(afterId, limit), o -> o.id);
+        }
     }
     
     @GetMapping("/{id}")
@@ -38,12 +71,36 @@ public class OrderController {
     }
     
     @PostMapping
-    @Operation(summary = "Create order", description = "Creates a new order")
-    public ResponseEntity<Order> createOrder(@Valid @RequestBody Order order) {
+    @Operation(summary = "Create order",
+            description = "Creates a new order. With asynchronous intake enabled the order is queued instead and " +
+                    "202 is returned with a tracking id to poll; 429 means the queue is full")
+    public ResponseEntity<?> createOrder(@Valid @RequestBody Order order) {
+        if (orderIntakeQueue.isEnabled()) {
+            OrderIntakeStatus status = orderIntakeQueue.submit(order);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/orders/intake/" + status.trackingId))
+                    .body(status);
+        }
         Order createdOrder = orderService.createOrder(order);
         return new ResponseEntity<>(createdOrder, HttpStatus.CREATED);
     }
     
+    @GetMapping("/intake/{trackingId}")
+    @Operation(summary = "Get queued order status",
+            description = "Retrieves the status of an asynchronously submitted order: QUEUED, CREATED (with the order id), " +
+                    "REJECTED or FAILED (with a reason)")
+    public ResponseEntity<OrderIntakeStatus> getIntakeStatus(@PathVariable String trackingId) {
+        return ResponseEntity.ok(orderIntakeQueue.getStatus(trackingId));
+    }
+    
+    @PostMapping("/batch")
+    @Operation(summary = "Create orders in a batch",
+            description = "Creates many orders in one transaction; each order is created or rejected with a reason " +
+                    "without aborting the rest of the batch")
+    public ResponseEntity<List<OrderBatchResult>> createOrders(@RequestBody List<Order> orders) {
+        return ResponseEntity.ok(orderService.createOrders(orders));
+    }
+    
     @PutMapping("/{id}/status")
     @Operation(summary = "Update order status", description = "Updates the status of an existing order")
     public ResponseEntity<Order> updateOrderStatus(@PathVariable Long id, @RequestParam String status) {
@@ -58,15 +115,33 @@ public class OrderController {
     }
     
     @GetMapping("/status/{status}")
-    @Operation(summary = "Find orders by status", description = "Finds orders by status")
-    public ResponseEntity<List<Order>> findByStatus(@PathVariable String status) {
-        return ResponseEntity.ok(orderService.findByStatus(status));
+    @Operation(summary = "Find orders by status",
+            description = "Finds orders by status; view=summary or view=lines returns lightweight projections")
+    public ResponseEntity<List<?>> findByStatus(@PathVariable String status,
+                                                @RequestParam(defaultValue = "full") String view) {
+        switch (OrderView.from(view)) {
+            case SUMMARY:
+                return ResponseEntity.ok(orderService.findSummariesByStatus(status));
+            case LINES:
+                return ResponseEntity.ok(orderService.findDetailsByStatus(status));
+            default:
+                return ResponseEntity.ok(orderService.findByStatus(status));
+        }
     }
     
     @GetMapping("/customer/{email}")
-    @Operation(summary = "Find orders by customer email", description = "Finds orders by customer email")
-    public ResponseEntity<List<Order>> findByCustomerEmail(@PathVariable String email) {
-        return ResponseEntity.ok(orderService.findByCustomerEmail(email));
+    @Operation(summary = "Find orders by customer email",
+            description = "Finds orders by customer email; view=summary or view=lines returns lightweight projections")
+    public ResponseEntity<List<?>> findByCustomerEmail(@PathVariable String email,
+                                                       @RequestParam(defaultValue = "full") String view) {
+        switch (OrderView.from(view)) {
+            case SUMMARY:
+                return ResponseEntity.ok(orderService.findSummariesByCustomerEmail(email));
+            case LINES:
+                return ResponseEntity.ok(orderService.findDetailsByCustomerEmail(email));
+            default:
+                return ResponseEntity.ok(orderService.findByCustomerEmail(email));
+        }
     }
     
     @GetMapping("/date-range")
@@ -76,4 +151,30 @@ public class OrderController {
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
         return ResponseEntity.ok(orderService.findByOrderDateBetween(startDate, endDate));
     }
-} 
\ No newline at end of file
+    
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export orders by date range",
+            description = "Streams orders between start and end dates as newline-delimited JSON")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+        StreamingResponseBody body = outputStream -> {
+            orderService.exportByOrderDateBetween(start, end, order -> {
+                try {
+                    ndjsonWriter.writeValue(outputStream, order);
+                    outputStream.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            outputStream.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+    
+    private static <T> ResponseEntity<List<?>> toPageResponse(Slice<T> page, Function<T, Long> idExtractor) {
+        return KeysetCursor.okWithNextCursor(page, idExtractor).body(page.getContent());
+    }
+}
\ No newline at end of file
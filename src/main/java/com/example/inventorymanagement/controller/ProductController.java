@@ -1,32 +1,65 @@
 package com.example.inventorymanagement.controller;
 
+import com.example.inventorymanagement.dto.ImportReport;
+import com.example.inventorymanagement.dto.ProductLookupResult;
+import com.example.inventorymanagement.dto.ProductSuggestion;
+import com.example.inventorymanagement.dto.StockAdjustment;
+import com.example.inventorymanagement.dto.StockAdjustmentResult;
 import com.example.inventorymanagement.model.Product;
+import com.example.inventorymanagement.service.ProductImportService;
 import com.example.inventorymanagement.service.ProductService;
+import com.example.inventorymanagement.utils.KeysetCursor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import javax.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/products")
 @Tag(name = "Product API", description = "API for product management")
 public class ProductController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    
     private final ProductService productService;
+    private final ProductImportService productImportService;
     
     @Autowired
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, ProductImportService productImportService) {
         this.productService = productService;
+        this.productImportService = productImportService;
     }
     
     @GetMapping
-    @Operation(summary = "Get all products", description = "Retrieves a list of all products")
-    public ResponseEntity<List<Product>> getAllProducts() {
-        return ResponseEntity.ok(productService.getAllProducts());
+    @Operation(summary = "Get all products",
+            description = "Retrieves a page of products ordered by ID; the next page cursor is returned in the X-Next-Cursor header")
+    public ResponseEntity<List<Product>> getAllProducts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        return KeysetCursor.toResponse(productService.getProducts(KeysetCursor.decode(cursor), limit), p -> p.id);
+    }
+    
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get products by IDs",
+            description = "Retrieves several products in request order; IDs that do not exist are listed in missingIds")
+    public ResponseEntity<ProductLookupResult> getProductsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(productService.lookupProducts(ids));
+    }
+    
+    @PostMapping("/lookup")
+    @Operation(summary = "Look up products by IDs",
+            description = "Same as GET /api/products?ids=..., taking the IDs as a JSON array for long lists")
+    public ResponseEntity<ProductLookupResult> lookupProducts(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(productService.lookupProducts(ids));
     }
     
     @GetMapping("/{id}")
@@ -42,12 +75,39 @@ public class ProductController {
         return new ResponseEntity<>(savedProduct, HttpStatus.CREATED);
     }
     
+    @PostMapping(value = "/import", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Import products",
+            description = "Streams a CSV (with header row) or NDJSON catalog; rows with an id update that product, " +
+                    "rows without one create a product. Returns counts and per-row errors")
+    public ResponseEntity<ImportReport> importProducts(@RequestHeader("Content-Type") MediaType contentType,
+                                                       InputStream body) throws IOException {
+        ProductImportService.Format format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                ? ProductImportService.Format.NDJSON
+                : ProductImportService.Format.CSV;
+        return ResponseEntity.ok(productImportService.importProducts(body, format));
+    }
+    
     @PutMapping("/{id}")
     @Operation(summary = "Update product", description = "Updates an existing product")
     public ResponseEntity<Product> updateProduct(@PathVariable Long id, @Valid @RequestBody Product product) {
         return ResponseEntity.ok(productService.updateProduct(id, product));
     }
     
+    @PatchMapping("/{id}/stock")
+    @Operation(summary = "Adjust product stock",
+            description = "Adds a signed delta to the product's quantity in place; rejected if stock would go negative")
+    public ResponseEntity<StockAdjustmentResult> adjustStock(@PathVariable Long id,
+                                                             @RequestBody StockAdjustment adjustment) {
+        return ResponseEntity.ok(productService.adjustStock(id, adjustment.delta));
+    }
+    
+    @PatchMapping("/stock")
+    @Operation(summary = "Adjust stock for many products",
+            description = "Applies signed quantity deltas in order; each adjustment is applied or rejected on its own")
+    public ResponseEntity<List<StockAdjustmentResult>> adjustStock(@RequestBody List<StockAdjustment> adjustments) {
+        return ResponseEntity.ok(productService.adjustStock(adjustments));
+    }
+    
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete product", description = "Deletes a product by its ID")
     public ResponseEntity<Void> deleteProduct(@PathVariable Long id) {
@@ -56,9 +116,24 @@ public class ProductController {
     }
     
     @GetMapping("/search")
-    @Operation(summary = "Search products by name", description = "Searches for products by name")
-    public ResponseEntity<List<Product>> searchProducts(@RequestParam String name) {
-        return ResponseEntity.ok(productService.searchProductByName(name));
+    @Operation(summary = "Search products by name", description = "Searches for products by name, best matches first")
+    public ResponseEntity<List<Product>> searchProducts(@RequestParam String name,
+                                                        @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(productService.searchProductByName(name, KeysetCursor.boundedPageSize(limit)));
+    }
+    
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocomplete product names", description = "Suggests products whose name starts with the prefix")
+    public ResponseEntity<List<ProductSuggestion>> autocomplete(@RequestParam String prefix,
+                                                                @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productService.autocomplete(prefix, KeysetCursor.boundedPageSize(limit)));
+    }
+    
+    @GetMapping(value = "/stock-events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream stock changes",
+            description = "Server-sent events with the new quantity of changed products; optionally limited to the given product IDs")
+    public SseEmitter streamStockChanges(@RequestParam(required = false) Set<Long> productIds) {
+        return productService.subscribeToStockChanges(productIds != null ? productIds : Set.of());
     }
     
     @GetMapping("/category/{category}")
@@ -0,0 +1,11 @@
+package com.example.inventorymanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportError {
+    public long line;
+    public String message;
+}
@@ -0,0 +1,16 @@
+package com.example.inventorymanagement.dto;
+
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@NoArgsConstructor
+public class ImportReport {
+    public long rowsRead;
+    public long created;
+    public long updated;
+    public long failed;
+    public List<ImportError> errors = new ArrayList<>();
+    public boolean errorsTruncated;
+}
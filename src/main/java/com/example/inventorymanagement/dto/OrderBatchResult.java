@@ -0,0 +1,27 @@
+package com.example.inventorymanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBatchResult {
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+    
+    public int index;
+    public Status status;
+    public Long orderId;
+    public Double totalAmount;
+    public String reason;
+    
+    public static OrderBatchResult created(int index, Long orderId, Double totalAmount) {
+        return new OrderBatchResult(index, Status.CREATED, orderId, totalAmount, null);
+    }
+    
+    public static OrderBatchResult rejected(int index, String reason) {
+        return new OrderBatchResult(index, Status.REJECTED, null, null, reason);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.inventorymanagement.dto;
+
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@NoArgsConstructor
+public class OrderDetail {
+    public Long id;
+    public String customerName;
+    public String customerEmail;
+    public String status;
+    public Double totalAmount;
+    public LocalDateTime orderDate;
+    public List<OrderLine> items = new ArrayList<>();
+    
+    public OrderDetail(OrderSummary summary, List<OrderLine> items) {
+        this.id = summary.id;
+        this.customerName = summary.customerName;
+        this.customerEmail = summary.customerEmail;
+        this.status = summary.status;
+        this.totalAmount = summary.totalAmount;
+        this.orderDate = summary.orderDate;
+        this.items = items;
+    }
+}
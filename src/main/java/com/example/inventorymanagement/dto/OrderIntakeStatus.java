@@ -0,0 +1,29 @@
+package com.example.inventorymanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderIntakeStatus {
+    public enum Status {
+        QUEUED,
+        CREATED,
+        REJECTED,
+        FAILED
+    }
+    
+    public String trackingId;
+    public Status status;
+    public Long orderId;
+    public Double totalAmount;
+    public String reason;
+    public LocalDateTime acceptedAt;
+    public LocalDateTime completedAt;
+    
+    public OrderIntakeStatus copy() {
+        return new OrderIntakeStatus(trackingId, status, orderId, totalAmount, reason, acceptedAt, completedAt);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.inventorymanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLine {
+    @JsonIgnore
+    public Long orderId;
+    public Long productId;
+    public String productName;
+    public int quantity;
+    public double price;
+}
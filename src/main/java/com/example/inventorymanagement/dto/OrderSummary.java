@@ -0,0 +1,18 @@
+package com.example.inventorymanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummary {
+    public Long id;
+    public String customerName;
+    public String customerEmail;
+    public String status;
+    public Double totalAmount;
+    public LocalDateTime orderDate;
+    public int itemCount;
+}
@@ -0,0 +1,21 @@
+package com.example.inventorymanagement.dto;
+
+import java.util.Locale;
+
+/**
+ * Shape of the orders returned by the order list endpoints: full entities, one summary
+ * row per order, or orders with lines carrying only product id, name and price.
+ */
+public enum OrderView {
+    FULL,
+    SUMMARY,
+    LINES;
+    
+    public static OrderView from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown order view: " + value + " (expected full, summary or lines)");
+        }
+    }
+}
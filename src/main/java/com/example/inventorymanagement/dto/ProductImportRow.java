@@ -0,0 +1,15 @@
+package com.example.inventorymanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportRow {
+    public Long id;
+    public String name;
+    public String description;
+    public Double price;
+    public Integer quantity;
+    public String category;
+}
@@ -0,0 +1,15 @@
+package com.example.inventorymanagement.dto;
+
+import com.example.inventorymanagement.model.Product;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductLookupResult {
+    public List<Product> products = new ArrayList<>();
+    public List<Long> missingIds = new ArrayList<>();
+}
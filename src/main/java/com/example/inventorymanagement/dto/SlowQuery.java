@@ -0,0 +1,18 @@
+package com.example.inventorymanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlowQuery {
+    public LocalDateTime executedAt;
+    public long elapsedMillis;
+    public String sql;
+    public List<Object> parameters;
+    public int batchSize;
+    public String plan;
+}
@@ -0,0 +1,20 @@
+package com.example.inventorymanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAdjustmentResult {
+    public enum Status {
+        APPLIED,
+        NOT_FOUND,
+        INSUFFICIENT_STOCK
+    }
+    
+    public int index;
+    public Long productId;
+    public int delta;
+    public Status status;
+    public Integer quantity;
+}
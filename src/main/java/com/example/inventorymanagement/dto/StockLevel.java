@@ -0,0 +1,15 @@
+package com.example.inventorymanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockLevel {
+    public Long productId;
+    public int quantity;
+    public LocalDateTime updatedAt;
+    public long version;
+}
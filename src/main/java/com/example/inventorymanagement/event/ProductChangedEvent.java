@@ -0,0 +1,53 @@
+package com.example.inventorymanagement.event;
+
+import com.example.inventorymanagement.model.Product;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published whenever a product row changes. Listeners that keep in-memory state about
+ * products should consume it with {@code @TransactionalEventListener} so they only see
+ * committed changes. {@code quantity} and {@code version} are null when the new stock level
+ * is not known to the publisher; {@code version} is the product row version, which increases
+ * with every committed change. Extends {@link ApplicationEvent} so Spring dispatches it directly instead
+ * of wrapping it in a payload event and resolving generic types for every listener call.
+ */
+public class ProductChangedEvent extends ApplicationEvent {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        STOCK_CHANGED
+    }
+    
+    public final Type type;
+    public final Long productId;
+    public final String name;
+    public final String description;
+    public final Integer quantity;
+    public final LocalDateTime updatedAt;
+    public final Long version;
+    
+    public ProductChangedEvent(Type type, Long productId, String name, String description,
+                               Integer quantity, LocalDateTime updatedAt, Long version) {
+        super(productId);
+        this.type = type;
+        this.productId = productId;
+        this.name = name;
+        this.description = description;
+        this.quantity = quantity;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+    
+    public static ProductChangedEvent of(Type type, Product product) {
+        return new ProductChangedEvent(type, product.id, product.name, product.description,
+                product.quantity, product.updatedAt, product.version);
+    }
+    
+    public static ProductChangedEvent stockChanged(Long productId, Integer quantity, LocalDateTime updatedAt,
+                                                   Long version) {
+        return new ProductChangedEvent(Type.STOCK_CHANGED, productId, null, null, quantity, updatedAt, version);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.inventorymanagement.event;
+
+import com.example.inventorymanagement.model.Product;
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns Hibernate insert/update/delete events for {@link Product} into {@link ProductChangedEvent}s,
+ * so writes through any repository call are seen by the in-memory product views.
+ * Bulk JDBC stock updates bypass Hibernate and publish their own events.
+ */
+@Component
+public class ProductEntityEventPublisher
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+    private final transient EntityManagerFactory entityManagerFactory;
+    private final transient ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    public ProductEntityEventPublisher(EntityManagerFactory entityManagerFactory,
+                                       ApplicationEventPublisher eventPublisher) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.eventPublisher = eventPublisher;
+    }
+    
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+    
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(ProductChangedEvent.Type.CREATED, event.getEntity());
+    }
+    
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(ProductChangedEvent.Type.UPDATED, event.getEntity());
+    }
+    
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(ProductChangedEvent.Type.DELETED, event.getEntity());
+    }
+    
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+    
+    private void publish(ProductChangedEvent.Type type, Object entity) {
+        if (entity instanceof Product) {
+            eventPublisher.publishEvent(ProductChangedEvent.of(type, (Product) entity));
+        }
+    }
+}
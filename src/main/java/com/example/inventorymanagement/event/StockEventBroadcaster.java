@@ -0,0 +1,241 @@
+package com.example.inventorymanagement.event;
+
+import com.example.inventorymanagement.config.VirtualThreadConfig;
+import com.example.inventorymanagement.dto.StockLevel;
+import com.example.inventorymanagement.repository.ProductRepository;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes committed stock changes to server-sent event subscribers.
+ * Every subscriber has its own buffer of pending changes keyed by product id, so while a
+ * slow consumer is still being written to, further changes to the same product replace the
+ * pending one instead of queueing up. A subscriber whose buffer would exceed the configured
+ * number of distinct products is disconnected and is expected to reconnect and re-read.
+ * Writes block on the client's socket, so each subscriber is written to by at most one writer
+ * thread of its own (virtual where available) and a slow client only stalls itself; one whose
+ * write has not completed within the send timeout is disconnected.
+ */
+@Component
+public class StockEventBroadcaster {
+    private static final Logger log = LoggerFactory.getLogger(StockEventBroadcaster.class);
+    private static final String EVENT_NAME = "stock";
+    
+    private final ProductRepository productRepository;
+    private final int maxPendingPerSubscriber;
+    private final long emitterTimeoutMillis;
+    private final long sendTimeoutNanos;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService writers;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+    
+    @Autowired
+    public StockEventBroadcaster(ProductRepository productRepository,
+                                 @Value("${inventory.stock-events.max-pending-per-subscriber:1000}") int maxPendingPerSubscriber,
+                                 @Value("${inventory.stock-events.timeout:30m}") Duration timeout,
+                                 @Value("${inventory.stock-events.heartbeat:15s}") Duration heartbeat,
+                                 @Value("${inventory.stock-events.send-timeout:10s}") Duration sendTimeout) {
+        this.productRepository = productRepository;
+        this.maxPendingPerSubscriber = maxPendingPerSubscriber;
+        this.emitterTimeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("stock-events"));
+        this.writers = VirtualThreadConfig.newVirtualThreadExecutor()
+                .orElseGet(() -> Executors.newCachedThreadPool(daemonThreads("stock-events-writer")));
+        this.scheduler.scheduleAtFixedRate(this::sendHeartbeats,
+                heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+        long checkMillis = Math.max(1, Math.min(sendTimeout.toMillis() / 2, 1000));
+        this.scheduler.scheduleAtFixedRate(this::closeStalledSubscribers, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Registers a subscriber for changes to {@code productIds}, or to every product when empty.
+     */
+    public SseEmitter subscribe(Set<Long> productIds) {
+        return register(new SseEmitter(emitterTimeoutMillis), productIds);
+    }
+    
+    SseEmitter register(SseEmitter emitter, Set<Long> productIds) {
+        Subscriber subscriber = new Subscriber(emitter, productIds);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(ex -> close(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+    
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (subscribers.isEmpty() || event.type == ProductChangedEvent.Type.DELETED) {
+            return;
+        }
+        StockLevel level;
+        if (event.quantity != null && event.version != null) {
+            level = new StockLevel(event.productId, event.quantity, event.updatedAt, event.version);
+        } else {
+            List<StockLevel> levels = productRepository.findStockLevels(List.of(event.productId));
+            if (levels.isEmpty()) {
+                return;
+            }
+            level = levels.get(0);
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.wants(level.productId) && subscriber.offer(level)) {
+                writers.execute(() -> drain(subscriber));
+            }
+        }
+    }
+    
+    // Only one drain per subscriber is scheduled at a time, so its writes never run concurrently
+    private void drain(Subscriber subscriber) {
+        List<SseEmitter.SseEventBuilder> events;
+        while (!(events = subscriber.takePending()).isEmpty()) {
+            try {
+                for (SseEmitter.SseEventBuilder event : events) {
+                    subscriber.sendStartedNanos = System.nanoTime();
+                    try {
+                        subscriber.emitter.send(event);
+                    } finally {
+                        subscriber.sendStartedNanos = 0;
+                    }
+                }
+            } catch (IOException | IllegalStateException ex) {
+                close(subscriber);
+                return;
+            }
+        }
+    }
+    
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.requestHeartbeat()) {
+                writers.execute(() -> drain(subscriber));
+            }
+        }
+    }
+    
+    private void closeStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedNanos;
+            if (started != 0 && now - started > sendTimeoutNanos) {
+                log.warn("Disconnecting stock event subscriber whose write has been blocked for {} ms",
+                        TimeUnit.NANOSECONDS.toMillis(now - started));
+                close(subscriber);
+            }
+        }
+    }
+    
+    private void close(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.emitter.complete();
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        writers.shutdownNow();
+        subscribers.forEach(this::close);
+    }
+    
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+    
+    private class Subscriber {
+        final SseEmitter emitter;
+        final Set<Long> productIds;
+        // Insertion-ordered, keyed by product id: a newer level for the same product replaces the pending one
+        final Map<Long, StockLevel> pending = new LinkedHashMap<>();
+        boolean heartbeatDue;
+        boolean scheduled;
+        // System.nanoTime() when the write in progress started, 0 while no write is in progress
+        volatile long sendStartedNanos;
+        
+        Subscriber(SseEmitter emitter, Set<Long> productIds) {
+            this.emitter = emitter;
+            this.productIds = productIds;
+        }
+        
+        boolean wants(Long productId) {
+            return productIds.isEmpty() || productIds.contains(productId);
+        }
+        
+        /**
+         * Buffers a level and returns true if the subscriber needs a drain scheduled.
+         */
+        synchronized boolean offer(StockLevel level) {
+            pending.put(level.productId, level);
+            if (pending.size() > maxPendingPerSubscriber) {
+                log.warn("Disconnecting slow stock event subscriber with {} pending products", pending.size());
+                pending.clear();
+                scheduler.execute(() -> close(this));
+                return false;
+            }
+            return schedule();
+        }
+        
+        synchronized boolean requestHeartbeat() {
+            heartbeatDue = true;
+            return schedule();
+        }
+        
+        private boolean schedule() {
+            if (scheduled) {
+                return false;
+            }
+            scheduled = true;
+            return true;
+        }
+        
+        synchronized List<SseEmitter.SseEventBuilder> takePending() {
+            List<SseEmitter.SseEventBuilder> events = new ArrayList<>(pending.size() + 1);
+            if (heartbeatDue) {
+                heartbeatDue = false;
+                events.add(SseEmitter.event().comment("heartbeat"));
+            }
+            for (StockLevel level : pending.values()) {
+                events.add(SseEmitter.event()
+                        .id(Long.toString(sequence.incrementAndGet()))
+                        .name(EVENT_NAME)
+                        .data(level));
+            }
+            pending.clear();
+            if (events.isEmpty()) {
+                scheduled = false;
+            }
+            return events;
+        }
+    }
+}
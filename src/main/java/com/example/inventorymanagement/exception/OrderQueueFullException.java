@@ -0,0 +1,10 @@
+package com.example.inventorymanagement.exception;
+
+/**
+ * Thrown when the asynchronous order intake queue has no room left; the client should retry later.
+ */
+public class OrderQueueFullException extends RuntimeException {
+    public OrderQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.inventorymanagement.exception;
+
+/**
+ * Thrown when a request could not be admitted within the concurrency limit; the client should retry later.
+ */
+public class ServerBusyException extends RuntimeException {
+    public ServerBusyException(String message) {
+        super(message);
+    }
+}
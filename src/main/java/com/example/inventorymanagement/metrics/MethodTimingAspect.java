@@ -0,0 +1,106 @@
+package com.example.inventorymanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public service method and every repository call, tagged by class, method,
+ * outcome and exception type. Request-level timings per endpoint come from Spring Boot's own
+ * {@code http.server.requests} timer; these two show where inside a request the time goes.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "inventory.metrics.method-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class MethodTimingAspect {
+    public static final String SERVICE_TIMER = "inventory.service";
+    public static final String REPOSITORY_TIMER = "inventory.repository";
+    
+    private final MeterRegistry registry;
+    // Timers for successful calls, resolved once per class and method; building tags on every call would allocate
+    private final Map<Class<?>, Map<Method, Timer>> successTimers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, String> classNames = new ConcurrentHashMap<>();
+    
+    @Autowired
+    public MethodTimingAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+    
+    @Around("within(com.example.inventorymanagement.service..*) && execution(public * *(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, joinPoint);
+    }
+    
+    // Static pointcuts only: a target() test would be evaluated on every call of every bean
+    @Around("(execution(* org.springframework.data.repository.Repository+.*(..))"
+            + " || execution(* com.example.inventorymanagement.repository.*Repository.*(..)))"
+            + " && !within(com.example.inventorymanagement.repository.*Impl)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, joinPoint);
+    }
+    
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            successTimer(name, joinPoint).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            timer(name, joinPoint.getTarget().getClass(), method(joinPoint), "ERROR", ex.getClass().getSimpleName())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+    
+    private Timer successTimer(String name, ProceedingJoinPoint joinPoint) {
+        Class<?> targetClass = joinPoint.getTarget().getClass();
+        Method method = method(joinPoint);
+        Map<Method, Timer> timers = successTimers.get(targetClass);
+        if (timers == null) {
+            timers = successTimers.computeIfAbsent(targetClass, key -> new ConcurrentHashMap<>());
+        }
+        Timer timer = timers.get(method);
+        if (timer == null) {
+            timer = timer(name, targetClass, method, "SUCCESS", "none");
+            timers.put(method, timer);
+        }
+        return timer;
+    }
+    
+    private Timer timer(String name, Class<?> targetClass, Method method, String outcome, String exception) {
+        return Timer.builder(name)
+                .tag("class", className(targetClass))
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(registry);
+    }
+    
+    private String className(Class<?> targetClass) {
+        // Spring Data repositories are JDK proxies; name them after the repository interface
+        return classNames.computeIfAbsent(targetClass, type -> {
+            for (Class<?> candidate : type.getInterfaces()) {
+                if (Repository.class.isAssignableFrom(candidate) && candidate != Repository.class) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        });
+    }
+    
+    private static Method method(ProceedingJoinPoint joinPoint) {
+        return ((MethodSignature) joinPoint.getSignature()).getMethod();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.inventorymanagement.metrics;
+
+import com.example.inventorymanagement.cache.ProductCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the product cache counters under Micrometer's standard cache meter names
+ * ({@code cache.gets}, {@code cache.evictions}, {@code cache.size}, tagged {@code cache=products}).
+ */
+@Component
+public class ProductCacheMetrics extends CacheMeterBinder<ProductCache> {
+    
+    @Autowired
+    public ProductCacheMetrics(ProductCache productCache) {
+        super(productCache, "products", Tags.empty());
+    }
+    
+    @Override
+    protected Long size() {
+        ProductCache cache = getCache();
+        return cache == null ? null : (long) cache.stats().size;
+    }
+    
+    @Override
+    protected long hitCount() {
+        ProductCache cache = getCache();
+        return cache == null ? 0 : cache.stats().hits;
+    }
+    
+    @Override
+    protected Long missCount() {
+        ProductCache cache = getCache();
+        return cache == null ? null : cache.stats().misses;
+    }
+    
+    @Override
+    protected Long evictionCount() {
+        ProductCache cache = getCache();
+        return cache == null ? null : cache.stats().evictions;
+    }
+    
+    @Override
+    protected long putCount() {
+        // Every miss loads the product (or its absence) into the cache
+        ProductCache cache = getCache();
+        return cache == null ? 0 : cache.stats().misses;
+    }
+    
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        FunctionCounter.builder("cache.invalidations", this, metrics -> metrics.invalidationCount())
+                .tags(getTagsWithCacheName())
+                .description("The number of entries dropped because the product changed")
+                .register(registry);
+        Gauge.builder("cache.max.size", this, metrics -> metrics.maxSize())
+                .tags(getTagsWithCacheName())
+                .description("The maximum number of entries the cache holds")
+                .register(registry);
+    }
+    
+    private double invalidationCount() {
+        ProductCache cache = getCache();
+        return cache == null ? 0 : cache.stats().invalidations;
+    }
+    
+    private double maxSize() {
+        ProductCache cache = getCache();
+        return cache == null ? 0 : cache.stats().maxSize;
+    }
+}
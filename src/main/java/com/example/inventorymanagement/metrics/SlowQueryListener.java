@@ -0,0 +1,51 @@
+package com.example.inventorymanagement.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Hands statements slower than the threshold to the {@link SlowQueryLog}. A batch is logged
+ * once, with the bind parameters of its first entry.
+ */
+public class SlowQueryListener implements QueryExecutionListener {
+    private final SlowQueryLog slowQueryLog;
+    private final DataSource dataSource;
+    
+    public SlowQueryListener(SlowQueryLog slowQueryLog, DataSource dataSource) {
+        this.slowQueryLog = slowQueryLog;
+        this.dataSource = dataSource;
+    }
+    
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+    
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() < slowQueryLog.getThresholdMillis() || queryInfoList.isEmpty()) {
+            return;
+        }
+        QueryInfo query = queryInfoList.get(0);
+        List<List<ParameterSetOperation>> parametersList = query.getParametersList();
+        List<Object> parameters = parametersList.isEmpty() ? List.of() : parameters(parametersList.get(0));
+        slowQueryLog.record(query.getQuery(), parameters, Math.max(execInfo.getBatchSize(), 1),
+                execInfo.getElapsedTime(), dataSource);
+    }
+    
+    private static List<Object> parameters(List<ParameterSetOperation> operations) {
+        List<ParameterSetOperation> byIndex = new ArrayList<>(operations);
+        byIndex.sort(Comparator.comparing(operation -> (Integer) operation.getArgs()[0]));
+        List<Object> parameters = new ArrayList<>(byIndex.size());
+        for (ParameterSetOperation operation : byIndex) {
+            parameters.add("setNull".equals(operation.getMethod().getName()) ? null : operation.getArgs()[1]);
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.inventorymanagement.metrics;
+
+import com.example.inventorymanagement.dto.SlowQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the most recent statements that ran longer than the slow-query threshold, with their
+ * bind parameters and an H2 execution plan, in a ring buffer of fixed capacity. Plans are
+ * captured on a background thread over a connection that bypasses SQL tracking, so the query
+ * that was slow is never slowed down further; when plans cannot keep up, new ones are skipped.
+ */
+@Component
+public class SlowQueryLog {
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryLog.class);
+    private static final Pattern FOR_UPDATE = Pattern.compile("\\bfor\\s+update\\b");
+    
+    private final boolean enabled;
+    private final long thresholdMillis;
+    private final int capacity;
+    private final Deque<SlowQuery> queries;
+    private final ThreadPoolExecutor explainer;
+    
+    @Autowired
+    public SlowQueryLog(@Value("${inventory.sql.slow-query.enabled:true}") boolean enabled,
+                        @Value("${inventory.sql.slow-query.threshold:100ms}") Duration threshold,
+                        @Value("${inventory.sql.slow-query.capacity:100}") int capacity,
+                        @Value("${inventory.sql.slow-query.max-pending-plans:20}") int maxPendingPlans) {
+        this.enabled = enabled;
+        this.thresholdMillis = threshold.toMillis();
+        this.capacity = capacity;
+        this.queries = new ArrayDeque<>(capacity);
+        this.explainer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxPendingPlans), runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public long getThresholdMillis() {
+        return thresholdMillis;
+    }
+    
+    /**
+     * Records a slow statement and queues its plan to be read through {@code dataSource}. Bind
+     * parameters carry customer data, so they are kept for the admin endpoint but not logged.
+     */
+    public void record(String sql, List<Object> parameters, int batchSize, long elapsedMillis, DataSource dataSource) {
+        log.warn("Slow query ({} ms): {}", elapsedMillis, sql);
+        SlowQuery query = new SlowQuery(LocalDateTime.now(), elapsedMillis, sql, parameters, batchSize, null);
+        synchronized (queries) {
+            if (queries.size() == capacity) {
+                queries.removeFirst();
+            }
+            queries.addLast(query);
+        }
+        explainer.execute(() -> {
+            String plan = explain(sql, parameters, dataSource);
+            synchronized (queries) {
+                query.plan = plan;
+            }
+        });
+    }
+    
+    /**
+     * The recorded statements, newest first.
+     */
+    public List<SlowQuery> recent() {
+        synchronized (queries) {
+            List<SlowQuery> recent = new ArrayList<>(queries.size());
+            queries.descendingIterator().forEachRemaining(query -> recent.add(
+                    new SlowQuery(query.executedAt, query.elapsedMillis, query.sql, query.parameters,
+                            query.batchSize, query.plan)));
+            return recent;
+        }
+    }
+    
+    public void clear() {
+        synchronized (queries) {
+            queries.clear();
+        }
+    }
+    
+    private static String explain(String sql, List<Object> parameters, DataSource dataSource) {
+        // EXPLAIN ANALYZE runs the statement, so only plain queries get one; other statements get
+        // the estimated plan. A locking select is usually slow because of lock contention, and
+        // running it again would wait for the same row locks the original transaction still holds
+        String normalized = sql.trim().toLowerCase(Locale.ROOT);
+        boolean analyze = normalized.startsWith("select") && !FOR_UPDATE.matcher(normalized).find();
+        String explain = analyze ? "EXPLAIN ANALYZE " : "EXPLAIN ";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(explain + sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    plan.append(rows.getString(1)).append('\n');
+                }
+            }
+            return plan.toString().trim();
+        } catch (SQLException ex) {
+            return "Plan unavailable: " + ex.getMessage();
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        explainer.shutdownNow();
+    }
+}
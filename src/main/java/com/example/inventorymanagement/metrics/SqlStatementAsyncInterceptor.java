@@ -0,0 +1,31 @@
+package com.example.inventorymanagement.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Binds the request's {@link SqlStatementStats} to the MVC async executor thread while a
+ * streaming response body runs there, so the queries it streams from are counted.
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.sql.tracking.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementAsyncInterceptor implements CallableProcessingInterceptor {
+    
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        Object stats = request.getAttribute(SqlStatementFilter.STATS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (stats instanceof SqlStatementStats) {
+            SqlStatementStats.resume((SqlStatementStats) stats);
+        }
+    }
+    
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        SqlStatementStats.end();
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.inventorymanagement.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Counts the SQL each HTTP request runs. The totals are returned in the X-SQL-* response
+ * headers and recorded per endpoint ({@code inventory.sql.statements}, {@code inventory.sql.rows},
+ * {@code inventory.sql.time}); requests over the statement budget, or repeating one statement
+ * often enough to suggest an N+1 query, are counted and logged. A request that goes async
+ * (streaming responses) is recorded when its final async dispatch completes, with the
+ * statements its async task ran; its headers are sent before that task runs, so they carry
+ * no counts.
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.sql.tracking.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementFilter.class);
+    
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ROWS_HEADER = "X-SQL-Rows";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+    static final String STATS_ATTRIBUTE = SqlStatementFilter.class.getName() + ".STATS";
+    
+    private final MeterRegistry registry;
+    private final int statementBudget;
+    private final int repeatedStatementThreshold;
+    
+    @Autowired
+    public SqlStatementFilter(MeterRegistry registry,
+                              @Value("${inventory.sql.statement-budget:20}") int statementBudget,
+                              @Value("${inventory.sql.repeated-statement-threshold:10}") int repeatedStatementThreshold) {
+        this.registry = registry;
+        this.statementBudget = statementBudget;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = (SqlStatementStats) request.getAttribute(STATS_ATTRIBUTE);
+        if (isAsyncDispatch(request) && stats != null) {
+            SqlStatementStats.resume(stats);
+        } else {
+            stats = SqlStatementStats.begin();
+            request.setAttribute(STATS_ATTRIBUTE, stats);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementStats.end();
+            // The async task runs its statements after this dispatch; record once it has finished
+            if (!isAsyncStarted(request)) {
+                // Responses with a body got their headers from SqlStatementHeaderAdvice before it was written
+                if (!response.isCommitted()) {
+                    writeHeaders(stats, response::setHeader);
+                }
+                record(request, stats);
+            }
+        }
+    }
+    
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+    
+    static void writeHeaders(SqlStatementStats stats, BiConsumer<String, String> headers) {
+        headers.accept(STATEMENTS_HEADER, String.valueOf(stats.statements));
+        headers.accept(ROWS_HEADER, String.valueOf(stats.rows));
+        headers.accept(TIME_HEADER, String.format(Locale.ROOT, "%.3f", stats.elapsedMillis()));
+    }
+    
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        DistributionSummary.builder("inventory.sql.statements")
+                .baseUnit("statements")
+                .tag("uri", uri)
+                .register(registry)
+                .record(stats.statements);
+        DistributionSummary.builder("inventory.sql.rows")
+                .baseUnit("rows")
+                .tag("uri", uri)
+                .register(registry)
+                .record(stats.rows);
+        Timer.builder("inventory.sql.time")
+                .tag("uri", uri)
+                .register(registry)
+                .record(stats.elapsedNanos, TimeUnit.NANOSECONDS);
+        
+        if (stats.statements > statementBudget) {
+            Counter.builder("inventory.sql.budget.exceeded").tag("uri", uri).register(registry).increment();
+            log.warn("{} {} ran {} SQL statements, over the budget of {}",
+                    request.getMethod(), uri, stats.statements, statementBudget);
+        }
+        Map.Entry<String, Integer> repeated = stats.mostRepeatedStatement();
+        if (repeated != null && repeated.getValue() >= repeatedStatementThreshold) {
+            Counter.builder("inventory.sql.repeated.statements").tag("uri", uri).register(registry).increment();
+            log.warn("Possible N+1 query: {} {} ran the same statement {} times: {}",
+                    request.getMethod(), uri, repeated.getValue(), repeated.getKey());
+        }
+    }
+}
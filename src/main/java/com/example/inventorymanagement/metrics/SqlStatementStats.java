@@ -0,0 +1,74 @@
+package com.example.inventorymanagement.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JDBC statements, rows and time spent in the database by one HTTP request. The current
+ * request's instance is held in a thread local between {@link #begin()} and {@link #end()},
+ * and {@link #resume} binds it to the async task of a streaming response; statements run on
+ * other threads (event listeners, the stock combiner) are not counted.
+ */
+public class SqlStatementStats {
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+    
+    public int statements;
+    public long rows;
+    public long elapsedNanos;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private long statementStart;
+    
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+    
+    /**
+     * Binds an existing request's stats to the current thread, which must only be used by one
+     * thread at a time.
+     */
+    public static void resume(SqlStatementStats stats) {
+        CURRENT.set(stats);
+    }
+    
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+    
+    public static void end() {
+        CURRENT.remove();
+    }
+    
+    void statementStarted() {
+        statementStart = System.nanoTime();
+    }
+    
+    void statementFinished(String sql, long affectedRows) {
+        statements++;
+        rows += affectedRows;
+        elapsedNanos += System.nanoTime() - statementStart;
+        executionsBySql.merge(sql, 1, Integer::sum);
+    }
+    
+    void rowRead() {
+        rows++;
+    }
+    
+    public double elapsedMillis() {
+        return elapsedNanos / 1_000_000.0;
+    }
+    
+    /**
+     * The statement executed most often in this request, the usual sign of an N+1 query.
+     */
+    public Map.Entry<String, Integer> mostRepeatedStatement() {
+        Map.Entry<String, Integer> mostRepeated = null;
+        for (Map.Entry<String, Integer> entry : executionsBySql.entrySet()) {
+            if (mostRepeated == null || entry.getValue() > mostRepeated.getValue()) {
+                mostRepeated = entry;
+            }
+        }
+        return mostRepeated;
+    }
+}
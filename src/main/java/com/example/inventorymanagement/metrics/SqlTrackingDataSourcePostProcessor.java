@@ -0,0 +1,53 @@
+package com.example.inventorymanagement.metrics;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's DataSource in a proxy that reports statements and rows to
+ * {@link SqlStatementListener} and slow statements to the {@link SlowQueryLog}, so JPA,
+ * Spring Data and JdbcTemplate work are all covered.
+ */
+@Component
+public class SqlTrackingDataSourcePostProcessor implements BeanPostProcessor {
+    private final boolean trackingEnabled;
+    private final ObjectProvider<SlowQueryLog> slowQueryLog;
+    
+    @Autowired
+    public SqlTrackingDataSourcePostProcessor(@Value("${inventory.sql.tracking.enabled:true}") boolean trackingEnabled,
+                                              ObjectProvider<SlowQueryLog> slowQueryLog) {
+        this.trackingEnabled = trackingEnabled;
+        this.slowQueryLog = slowQueryLog;
+    }
+    
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        DataSource dataSource = (DataSource) bean;
+        SlowQueryLog slowQueries = slowQueryLog.getIfAvailable();
+        boolean logSlowQueries = slowQueries != null && slowQueries.isEnabled();
+        if (!trackingEnabled && !logSlowQueries) {
+            return bean;
+        }
+        
+        ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(beanName, dataSource);
+        if (trackingEnabled) {
+            SqlStatementListener listener = new SqlStatementListener();
+            builder.listener(listener).proxyResultSet().methodListener(listener);
+        }
+        if (logSlowQueries) {
+            // Plans are read through the unwrapped data source so explaining is neither counted nor logged
+            builder.listener(new SlowQueryListener(slowQueries, dataSource));
+        }
+        return builder.build();
+    }
+}
@@ -10,16 +10,24 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_customer_email", columnList = "customer_email, id"),
+        @Index(name = "idx_orders_status", columnList = "status, id"),
+        @Index(name = "idx_orders_order_date", columnList = "order_date")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     public Long id;
     
     public String customerName;
+    
+    @Column(name = "customer_email")
     public String customerEmail;
+    
     public String status;
     public Double totalAmount;
     
@@ -27,7 +35,7 @@ public class Order {
     public LocalDateTime orderDate;
     
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
-    @JoinColumn(name = "order_id")
+    @JoinColumn(name = "order_id", nullable = false, updatable = false)
     @JsonManagedReference
     public List<OrderItem> items = new ArrayList<>();
     
@@ -7,11 +7,13 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_product_category", columnList = "category"))
 @NoArgsConstructor
 @AllArgsConstructor
 public class Product {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
     @Column(name = "id")
     public Long id;
     
@@ -27,6 +29,9 @@ public class Product {
     @Column(name = "updated_at")
     public LocalDateTime updatedAt;
     
+    @Version
+    public long version;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -1,17 +1,56 @@
 package com.example.inventorymanagement.repository;
 
+import com.example.inventorymanagement.dto.OrderLine;
+import com.example.inventorymanagement.dto.OrderSummary;
 import com.example.inventorymanagement.model.Order;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
+    Slice<Order> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
     List<Order> findByStatus(String status);
     
     List<Order> findByCustomerEmail(String email);
     
     List<Order> findByOrderDateBetween(LocalDateTime startDate, LocalDateTime endDate);
+    
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT o FROM Order o WHERE o.orderDate BETWEEN :startDate AND :endDate ORDER BY o.id")
+    Stream<Order> streamByOrderDateBetween(@Param("startDate") LocalDateTime startDate,
+                                           @Param("endDate") LocalDateTime endDate);
+    
+    @Query("SELECT new com.example.inventorymanagement.dto.OrderSummary(" +
+            "o.id, o.customerName, o.customerEmail, o.status, o.totalAmount, o.orderDate, SIZE(o.items)) " +
+            "FROM Order o WHERE o.id > :afterId ORDER BY o.id")
+    Slice<OrderSummary> findSummariesAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    @Query("SELECT new com.example.inventorymanagement.dto.OrderSummary(" +
+            "o.id, o.customerName, o.customerEmail, o.status, o.totalAmount, o.orderDate, SIZE(o.items)) " +
+            "FROM Order o WHERE o.status = :status ORDER BY o.id")
+    List<OrderSummary> findSummariesByStatus(@Param("status") String status);
+    
+    @Query("SELECT new com.example.inventorymanagement.dto.OrderSummary(" +
+            "o.id, o.customerName, o.customerEmail, o.status, o.totalAmount, o.orderDate, SIZE(o.items)) " +
+            "FROM Order o WHERE o.customerEmail = :email ORDER BY o.id")
+    List<OrderSummary> findSummariesByCustomerEmail(@Param("email") String email);
+    
+    @Query("SELECT new com.example.inventorymanagement.dto.OrderLine(i.order.id, p.id, p.name, i.quantity, i.price) " +
+            "FROM OrderItem i JOIN i.product p WHERE i.order.id IN :orderIds ORDER BY i.order.id, i.id")
+    List<OrderLine> findLinesByOrderIds(@Param("orderIds") Collection<Long> orderIds);
 } 
\ No newline at end of file
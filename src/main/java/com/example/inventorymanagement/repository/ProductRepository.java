@@ -1,19 +1,56 @@
 package com.example.inventorymanagement.repository;
 
+import com.example.inventorymanagement.dto.StockLevel;
 import com.example.inventorymanagement.model.Product;
+import javax.persistence.LockModeType;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
-    List<Product> findByNameContainingIgnoreCase(String name);
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductStockRepository {
+    Slice<Product> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    default void forEachInIdOrder(int pageSize, Consumer<Product> consumer) {
+        long afterId = 0L;
+        Slice<Product> page;
+        do {
+            page = findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, pageSize));
+            for (Product product : page) {
+                consumer.accept(product);
+                afterId = product.id;
+            }
+        } while (page.hasNext());
+    }
+    
+    List<Product> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    
+    List<Product> findByNameStartingWithIgnoreCase(String prefix, Pageable pageable);
     
     List<Product> findByCategory(String category);
     
     @Query("SELECT p FROM Product p WHERE p.quantity < :threshold")
     List<Product> findLowStockProducts(@Param("threshold") int threshold);
+    
+    @Query("SELECT p.quantity FROM Product p WHERE p.id = :id")
+    Optional<Integer> findQuantityById(@Param("id") Long id);
+    
+    @Query("SELECT new com.example.inventorymanagement.dto.StockLevel(p.id, p.quantity, p.updatedAt, p.version) "
+            + "FROM Product p WHERE p.id IN :ids")
+    List<StockLevel> findStockLevels(@Param("ids") Collection<Long> ids);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id")
+    List<Product> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
 } 
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.example.inventorymanagement.repository;
+
+import com.example.inventorymanagement.dto.StockAdjustment;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ProductStockRepository {
+    /**
+     * Decrements stock for each product in one JDBC batch. A row is only updated while it has
+     * at least the requested quantity left, so the returned update counts (in the iteration
+     * order of {@code quantities}) are 0 for products that are missing or short on stock.
+     */
+    int[] decrementStock(Map<Long, Integer> quantities);
+    
+    /**
+     * Returns previously reserved stock to each product in one JDBC batch.
+     */
+    int[] incrementStock(Map<Long, Integer> quantities);
+    
+    /**
+     * Applies signed quantity deltas in place in one JDBC batch, in product id order and in list
+     * order for the same product. A row is only updated if its stock would not go negative, so
+     * the update count returned (in list order) for an adjustment is 0 if the product is missing
+     * or short on stock.
+     */
+    int[] adjustStock(List<StockAdjustment> adjustments);
+}
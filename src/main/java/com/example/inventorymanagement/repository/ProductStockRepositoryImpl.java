@@ -0,0 +1,85 @@
+package com.example.inventorymanagement.repository;
+
+import com.example.inventorymanagement.dto.StockAdjustment;
+import javax.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+public class ProductStockRepositoryImpl implements ProductStockRepository {
+    private static final String DECREMENT_STOCK_SQL =
+            "UPDATE product SET quantity = quantity - ?, updated_at = ?, version = version + 1 WHERE id = ? AND quantity >= ?";
+    private static final String INCREMENT_STOCK_SQL =
+            "UPDATE product SET quantity = quantity + ?, updated_at = ?, version = version + 1 WHERE id = ?";
+    private static final String ADJUST_STOCK_SQL =
+            "UPDATE product SET quantity = quantity + ?, updated_at = ?, version = version + 1 "
+                    + "WHERE id = ? AND quantity + ? >= 0";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    
+    @Autowired
+    public ProductStockRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+    
+    @Override
+    public int[] decrementStock(Map<Long, Integer> quantities) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(quantities.size());
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            batchArgs.add(new Object[]{entry.getValue(), now, entry.getKey(), entry.getValue()});
+        }
+        return executeBatch(DECREMENT_STOCK_SQL, batchArgs);
+    }
+    
+    @Override
+    public int[] incrementStock(Map<Long, Integer> quantities) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(quantities.size());
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            batchArgs.add(new Object[]{entry.getValue(), now, entry.getKey()});
+        }
+        return executeBatch(INCREMENT_STOCK_SQL, batchArgs);
+    }
+    
+    @Override
+    public int[] adjustStock(List<StockAdjustment> adjustments) {
+        // Lock rows in id order, like decrementStock, so concurrent batches cannot deadlock.
+        // The sort is stable, so adjustments to the same product keep their request order.
+        Integer[] order = new Integer[adjustments.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(i -> adjustments.get(i).productId));
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(adjustments.size());
+        for (int i : order) {
+            StockAdjustment adjustment = adjustments.get(i);
+            batchArgs.add(new Object[]{adjustment.delta, now, adjustment.productId, adjustment.delta});
+        }
+        int[] sortedCounts = executeBatch(ADJUST_STOCK_SQL, batchArgs);
+        int[] updateCounts = new int[adjustments.size()];
+        for (int i = 0; i < order.length; i++) {
+            updateCounts[order[i]] = sortedCounts[i];
+        }
+        return updateCounts;
+    }
+    
+    private int[] executeBatch(String sql, List<Object[]> batchArgs) {
+        // Same contract as @Modifying(flushAutomatically = true, clearAutomatically = true)
+        entityManager.flush();
+        int[] updateCounts = jdbcTemplate.batchUpdate(sql, batchArgs);
+        entityManager.clear();
+        return updateCounts;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.inventorymanagement.search;
+
+import com.example.inventorymanagement.dto.StockLevel;
+import com.example.inventorymanagement.event.ProductChangedEvent;
+import com.example.inventorymanagement.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Products ordered by (quantity, id), so "stock below threshold" is a head-set walk:
+ * O(log n + k) instead of a table scan. Built at startup and kept current from committed
+ * {@link ProductChangedEvent}s; an event carrying an older row version than the indexed level
+ * is ignored, so out-of-order delivery from concurrent orders can't regress it. Changes
+ * committed during the build are replayed once it finishes, so a product deleted meanwhile
+ * stays deleted.
+ */
+@Component
+public class LowStockIndex {
+    private static final Logger log = LoggerFactory.getLogger(LowStockIndex.class);
+    private static final int BUILD_PAGE_SIZE = 1000;
+    
+    private final ProductRepository productRepository;
+    private final NavigableSet<StockLevel> byQuantity = new ConcurrentSkipListSet<>(
+            Comparator.comparingInt((StockLevel level) -> level.quantity)
+                    .thenComparingLong(level -> level.productId));
+    private final Map<Long, StockLevel> byProductId = new HashMap<>();
+    private final PendingProductEvents pendingEvents = new PendingProductEvents();
+    private volatile boolean ready;
+    
+    @Autowired
+    public LowStockIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long started = System.nanoTime();
+        productRepository.forEachInIdOrder(BUILD_PAGE_SIZE,
+                product -> put(new StockLevel(product.id, product.quantity, product.updatedAt, product.version)));
+        pendingEvents.buildFinished(this::apply);
+        ready = true;
+        log.info("Low stock index built with {} products in {} ms",
+                byQuantity.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!pendingEvents.holdDuringBuild(event)) {
+            apply(event);
+        }
+    }
+    
+    private void apply(ProductChangedEvent event) {
+        if (event.type == ProductChangedEvent.Type.DELETED) {
+            remove(event.productId);
+        } else if (event.quantity != null && event.version != null
+                && (event.type == ProductChangedEvent.Type.CREATED || contains(event.productId))) {
+            put(new StockLevel(event.productId, event.quantity, event.updatedAt, event.version));
+        } else {
+            // The publisher didn't know the new stock level, or the product is not indexed and the
+            // event may have arrived after its deletion; read it back rather than re-insert it
+            readBack(event.productId);
+        }
+    }
+    
+    /**
+     * Returns the ids of products with stock below {@code threshold}, lowest stock first.
+     */
+    public List<Long> findBelow(int threshold) {
+        List<Long> ids = new ArrayList<>();
+        for (StockLevel level : byQuantity.headSet(new StockLevel(Long.MIN_VALUE, threshold, null, 0), false)) {
+            ids.add(level.productId);
+        }
+        return ids;
+    }
+    
+    private synchronized boolean contains(Long productId) {
+        return byProductId.containsKey(productId);
+    }
+    
+    // Holds the lock across the read so a concurrent deletion is applied after this, not before
+    private synchronized void readBack(Long productId) {
+        List<StockLevel> levels = productRepository.findStockLevels(List.of(productId));
+        if (levels.isEmpty()) {
+            remove(productId);
+        } else {
+            put(levels.get(0));
+        }
+    }
+    
+    private synchronized void put(StockLevel level) {
+        StockLevel current = byProductId.get(level.productId);
+        if (current != null) {
+            if (level.version < current.version) {
+                return;
+            }
+            byQuantity.remove(current);
+        }
+        byProductId.put(level.productId, level);
+        byQuantity.add(level);
+    }
+    
+    private synchronized void remove(Long productId) {
+        StockLevel current = byProductId.remove(productId);
+        if (current != null) {
+            byQuantity.remove(current);
+        }
+    }
+}
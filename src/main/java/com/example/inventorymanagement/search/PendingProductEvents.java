@@ -0,0 +1,37 @@
+package com.example.inventorymanagement.search;
+
+import com.example.inventorymanagement.event.ProductChangedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Holds the product changes committed while an index is being built from the database. The
+ * server accepts requests before the build finishes, so a change can land after the build read
+ * that product; replaying the held events on top of the snapshot keeps it from being lost.
+ */
+class PendingProductEvents {
+    private List<ProductChangedEvent> pending = new ArrayList<>();
+    
+    /**
+     * Holds {@code event} if the build is still running and returns true; returns false once
+     * the build has finished and the caller should apply the event itself.
+     */
+    synchronized boolean holdDuringBuild(ProductChangedEvent event) {
+        if (pending == null) {
+            return false;
+        }
+        pending.add(event);
+        return true;
+    }
+    
+    /**
+     * Applies the held events in arrival order and stops holding new ones. Events arriving
+     * meanwhile wait, so they are applied after the replayed ones.
+     */
+    synchronized void buildFinished(Consumer<ProductChangedEvent> apply) {
+        pending.forEach(apply);
+        pending = null;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.inventorymanagement.search;
+
+import com.example.inventorymanagement.dto.ProductSuggestion;
+import com.example.inventorymanagement.event.ProductChangedEvent;
+import com.example.inventorymanagement.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Prefix lookup over product names for typeahead.
+ * Names are kept in a sorted map keyed by lower-cased name plus id, so a prefix query is a
+ * single O(log n) seek followed by an in-order walk of at most {@code limit} entries.
+ * Built at startup and kept current from committed {@link ProductChangedEvent}s; changes
+ * committed during the build are replayed once it finishes.
+ */
+@Component
+public class ProductAutocompleteIndex {
+    private static final Logger log = LoggerFactory.getLogger(ProductAutocompleteIndex.class);
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final int BUILD_PAGE_SIZE = 1000;
+    
+    private final ProductRepository productRepository;
+    private final NavigableMap<String, ProductSuggestion> suggestions = new ConcurrentSkipListMap<>();
+    private final Map<Long, String> keysById = new ConcurrentHashMap<>();
+    private final PendingProductEvents pendingEvents = new PendingProductEvents();
+    private volatile boolean ready;
+    
+    @Autowired
+    public ProductAutocompleteIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long started = System.nanoTime();
+        productRepository.forEachInIdOrder(BUILD_PAGE_SIZE, product -> put(product.id, product.name));
+        pendingEvents.buildFinished(this::apply);
+        ready = true;
+        log.info("Product autocomplete index built with {} names in {} ms",
+                keysById.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!pendingEvents.holdDuringBuild(event)) {
+            apply(event);
+        }
+    }
+    
+    private void apply(ProductChangedEvent event) {
+        switch (event.type) {
+            case CREATED:
+            case UPDATED:
+                put(event.productId, event.name);
+                break;
+            case DELETED:
+                remove(event.productId);
+                break;
+            default:
+                // Stock changes don't affect names
+                break;
+        }
+    }
+    
+    public List<ProductSuggestion> suggest(String prefix, int limit) {
+        List<ProductSuggestion> result = new ArrayList<>(limit);
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return result;
+        }
+        for (Map.Entry<String, ProductSuggestion> entry : suggestions.tailMap(normalized, true).entrySet()) {
+            if (result.size() >= limit || !entry.getKey().startsWith(normalized)) {
+                break;
+            }
+            result.add(entry.getValue());
+        }
+        return result;
+    }
+    
+    private synchronized void put(Long id, String name) {
+        remove(id);
+        if (name == null || name.isBlank()) {
+            return;
+        }
+        String key = normalize(name) + KEY_SEPARATOR + id;
+        suggestions.put(key, new ProductSuggestion(id, name));
+        keysById.put(id, key);
+    }
+    
+    private synchronized void remove(Long id) {
+        String key = keysById.remove(id);
+        if (key != null) {
+            suggestions.remove(key);
+        }
+    }
+    
+    private static String normalize(String text) {
+        return text == null ? "" : text.strip().toLowerCase(Locale.ROOT);
+    }
+}
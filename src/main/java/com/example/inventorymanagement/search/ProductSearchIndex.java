@@ -0,0 +1,248 @@
+package com.example.inventorymanagement.search;
+
+import com.example.inventorymanagement.event.ProductChangedEvent;
+import com.example.inventorymanagement.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted trigram index over product names (and optionally descriptions).
+ * Candidates are found by intersecting the posting lists of the query's trigrams and then
+ * verified with a substring check, so results match {@code LIKE %query%} semantics.
+ * Built at startup and kept current from committed {@link ProductChangedEvent}s; changes
+ * committed during the build are replayed once it finishes.
+ */
+@Component
+public class ProductSearchIndex {
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchIndex.class);
+    private static final int BUILD_PAGE_SIZE = 1000;
+    // Shorter queries have no trigram to look up and would have to check every document
+    public static final int MIN_QUERY_LENGTH = 3;
+    
+    private final ProductRepository productRepository;
+    private final boolean indexDescription;
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<Long, Set<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final PendingProductEvents pendingEvents = new PendingProductEvents();
+    private volatile boolean ready;
+    
+    @Autowired
+    public ProductSearchIndex(ProductRepository productRepository,
+                              @Value("${inventory.search.index-description:false}") boolean indexDescription) {
+        this.productRepository = productRepository;
+        this.indexDescription = indexDescription;
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long started = System.nanoTime();
+        productRepository.forEachInIdOrder(BUILD_PAGE_SIZE,
+                product -> put(product.id, product.name, product.description));
+        pendingEvents.buildFinished(this::apply);
+        ready = true;
+        log.info("Product search index built with {} products in {} ms",
+                size(), (System.nanoTime() - started) / 1_000_000);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!pendingEvents.holdDuringBuild(event)) {
+            apply(event);
+        }
+    }
+    
+    private void apply(ProductChangedEvent event) {
+        switch (event.type) {
+            case CREATED:
+            case UPDATED:
+                put(event.productId, event.name, event.description);
+                break;
+            case DELETED:
+                remove(event.productId);
+                break;
+            default:
+                // Stock changes don't affect the indexed text
+                break;
+        }
+    }
+    
+    /**
+     * Returns the ids of products whose name (or indexed description) contains {@code query},
+     * ignoring case, best matches first: exact name, name prefix, word prefix, anywhere in the
+     * name, then description-only matches; ties go to the shorter name. The query must be at
+     * least {@link #MIN_QUERY_LENGTH} characters long.
+     */
+    public List<Long> search(String query, int limit) {
+        String needle = normalize(query);
+        if (needle.length() < MIN_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be at least " + MIN_QUERY_LENGTH + " characters long");
+        }
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : candidates(needle)) {
+                Document document = documents.get(id);
+                int rank = document == null ? -1 : rank(document, needle);
+                if (rank >= 0) {
+                    matches.add(new Match(id, rank, document.name.length()));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        matches.sort(Comparator.comparingInt((Match match) -> match.rank)
+                .thenComparingInt(match -> match.length)
+                .thenComparingLong(match -> match.id));
+        List<Long> ids = new ArrayList<>(Math.min(limit, matches.size()));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            ids.add(matches.get(i).id);
+        }
+        return ids;
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private Set<Long> candidates(String needle) {
+        Set<Long> smallest = null;
+        List<Set<Long>> lists = new ArrayList<>();
+        for (long trigram : trigrams(needle)) {
+            Set<Long> posting = postings.get(trigram);
+            if (posting == null) {
+                return Set.of();
+            }
+            lists.add(posting);
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        Set<Long> result = new HashSet<>(smallest);
+        for (Set<Long> posting : lists) {
+            if (posting != smallest) {
+                result.retainAll(posting);
+            }
+        }
+        return result;
+    }
+    
+    private int rank(Document document, String needle) {
+        int position = document.name.indexOf(needle);
+        if (position == 0) {
+            return document.name.length() == needle.length() ? 0 : 1;
+        }
+        if (position > 0) {
+            return Character.isLetterOrDigit(document.name.charAt(position - 1)) ? 3 : 2;
+        }
+        if (document.description != null && document.description.contains(needle)) {
+            return 4;
+        }
+        return -1;
+    }
+    
+    private void put(Long id, String name, String description) {
+        Document document = new Document(normalize(name), indexDescription ? normalize(description) : null);
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            documents.put(id, document);
+            for (long trigram : document.trigrams()) {
+                postings.computeIfAbsent(trigram, key -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void removeDocument(Long id) {
+        Document previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (long trigram : previous.trigrams()) {
+            Set<Long> posting = postings.get(trigram);
+            if (posting != null && posting.remove(id) && posting.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+    
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+    
+    private static Set<Long> trigrams(String text) {
+        Set<Long> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            trigrams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return trigrams;
+    }
+    
+    private static class Document {
+        final String name;
+        final String description;
+        
+        Document(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+        
+        Set<Long> trigrams() {
+            Set<Long> trigrams = ProductSearchIndex.trigrams(name);
+            if (description != null) {
+                trigrams.addAll(ProductSearchIndex.trigrams(description));
+            }
+            return trigrams;
+        }
+    }
+    
+    private static class Match {
+        final long id;
+        final int rank;
+        final int length;
+        
+        Match(long id, int rank, int length) {
+            this.id = id;
+            this.rank = rank;
+            this.length = length;
+        }
+    }
+}
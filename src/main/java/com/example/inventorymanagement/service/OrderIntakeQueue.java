@@ -0,0 +1,183 @@
+package com.example.inventorymanagement.service;
+
+import com.example.inventorymanagement.dto.OrderBatchResult;
+import com.example.inventorymanagement.dto.OrderIntakeStatus;
+import com.example.inventorymanagement.exception.OrderQueueFullException;
+import com.example.inventorymanagement.model.Order;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous order intake. Accepted orders wait in a bounded queue; a single worker drains
+ * whatever has accumulated (up to the batch size) and creates it with
+ * {@link OrderService#createOrders}, so under load many orders share one transaction and one
+ * stock update per product. A full queue is reported to the caller instead of growing without
+ * bound. Queued orders live only in memory and are lost if the process dies before they run.
+ */
+@Component
+public class OrderIntakeQueue {
+    private static final Logger log = LoggerFactory.getLogger(OrderIntakeQueue.class);
+    
+    private final OrderService orderService;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final int maxTrackedOrders;
+    private final BlockingQueue<QueuedOrder> queue;
+    private final Map<String, OrderIntakeStatus> statuses;
+    private final Thread worker;
+    private volatile boolean running = true;
+    
+    @Autowired
+    public OrderIntakeQueue(OrderService orderService, MeterRegistry registry,
+                            @Value("${inventory.orders.async.enabled:false}") boolean enabled,
+                            @Value("${inventory.orders.async.queue-capacity:10000}") int queueCapacity,
+                            @Value("${inventory.orders.async.max-batch-size:200}") int maxBatchSize,
+                            @Value("${inventory.orders.async.retained-results:10000}") int retainedResults) {
+        this.orderService = orderService;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        // Queued orders are always tracked; only the oldest finished results are dropped
+        this.maxTrackedOrders = queueCapacity + retainedResults;
+        this.statuses = new LinkedHashMap<>();
+        Gauge.builder("inventory.orders.intake.queue.size", queue, BlockingQueue::size)
+                .description("Orders accepted but not yet created")
+                .register(registry);
+        this.worker = new Thread(this::drain, "order-intake");
+        this.worker.setDaemon(true);
+        if (enabled) {
+            this.worker.start();
+        }
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public OrderIntakeStatus submit(Order order) {
+        if (!enabled || !running) {
+            throw new IllegalStateException("Asynchronous order intake is not running");
+        }
+        OrderIntakeStatus status = new OrderIntakeStatus();
+        status.trackingId = UUID.randomUUID().toString();
+        status.status = OrderIntakeStatus.Status.QUEUED;
+        status.acceptedAt = LocalDateTime.now();
+        synchronized (statuses) {
+            // Tracked before it is queued, so the worker always finds it
+            track(status);
+            if (!queue.offer(new QueuedOrder(order, status))) {
+                statuses.remove(status.trackingId);
+                throw new OrderQueueFullException("Order queue is full, retry later");
+            }
+            return status.copy();
+        }
+    }
+    
+    public OrderIntakeStatus getStatus(String trackingId) {
+        synchronized (statuses) {
+            OrderIntakeStatus status = statuses.get(trackingId);
+            if (status == null) {
+                throw new EntityNotFoundException("No queued order with tracking id: " + trackingId);
+            }
+            return status.copy();
+        }
+    }
+    
+    public int queueSize() {
+        return queue.size();
+    }
+    
+    private void track(OrderIntakeStatus status) {
+        statuses.put(status.trackingId, status);
+        Iterator<OrderIntakeStatus> oldestFirst = statuses.values().iterator();
+        while (statuses.size() > maxTrackedOrders && oldestFirst.hasNext()) {
+            if (oldestFirst.next().status != OrderIntakeStatus.Status.QUEUED) {
+                oldestFirst.remove();
+            }
+        }
+    }
+    
+    private void drain() {
+        List<QueuedOrder> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                QueuedOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                process(batch);
+            } catch (InterruptedException ex) {
+                // Shutting down: the loop finishes whatever is still queued
+                running = false;
+            } catch (RuntimeException ex) {
+                log.error("Order intake batch of {} orders failed", batch.size(), ex);
+                complete(batch, null, ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+    
+    private void process(List<QueuedOrder> batch) {
+        List<Order> orders = new ArrayList<>(batch.size());
+        batch.forEach(queued -> orders.add(queued.order));
+        complete(batch, orderService.createOrders(orders), null);
+    }
+    
+    private void complete(List<QueuedOrder> batch, List<OrderBatchResult> results, RuntimeException failure) {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (statuses) {
+            for (int i = 0; i < batch.size(); i++) {
+                OrderIntakeStatus status = batch.get(i).status;
+                status.completedAt = now;
+                if (failure != null) {
+                    status.status = OrderIntakeStatus.Status.FAILED;
+                    status.reason = failure.getMessage();
+                } else if (results.get(i).status == OrderBatchResult.Status.CREATED) {
+                    status.status = OrderIntakeStatus.Status.CREATED;
+                    status.orderId = results.get(i).orderId;
+                    status.totalAmount = results.get(i).totalAmount;
+                } else {
+                    status.status = OrderIntakeStatus.Status.REJECTED;
+                    status.reason = results.get(i).reason;
+                }
+            }
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(30));
+    }
+    
+    private static class QueuedOrder {
+        final Order order;
+        final OrderIntakeStatus status;
+        
+        QueuedOrder(Order order, OrderIntakeStatus status) {
+            this.order = order;
+            this.status = status;
+        }
+    }
+}
@@ -1,50 +1,238 @@
 package com.example.inventorymanagement.service;
 
+import com.example.inventorymanagement.dto.OrderBatchResult;
+import com.example.inventorymanagement.dto.OrderDetail;
+import com.example.inventorymanagement.dto.OrderLine;
+import com.example.inventorymanagement.dto.OrderSummary;
+import com.example.inventorymanagement.event.ProductChangedEvent;
 import com.example.inventorymanagement.model.Order;
 import com.example.inventorymanagement.model.OrderItem;
 import com.example.inventorymanagement.model.Product;
 import com.example.inventorymanagement.repository.OrderRepository;
 import com.example.inventorymanagement.repository.ProductRepository;
+import com.example.inventorymanagement.utils.KeysetCursor;
+import javax.persistence.EntityManager;
 import javax.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class OrderService {
+    private static final int EXPORT_CLEAR_INTERVAL = 500;
+    private static final int LINE_QUERY_CHUNK_SIZE = 500;
+    
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
+    private final EntityManager entityManager;
+    private final StockCombiner stockCombiner;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxBatchSize;
     
     @Autowired
-    public OrderService(OrderRepository orderRepository, ProductRepository productRepository) {
+    public OrderService(OrderRepository orderRepository, ProductRepository productRepository,
+                        EntityManager entityManager, StockCombiner stockCombiner,
+                        PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                        @Value("${inventory.orders.batch.max-size:1000}") int maxBatchSize) {
         this.orderRepository = orderRepository;
         this.productRepository = productRepository;
+        this.entityManager = entityManager;
+        this.stockCombiner = stockCombiner;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.maxBatchSize = maxBatchSize;
     }
     
-    @Transactional
     public Order createOrder(Order order) {
-        // Calculate total amount
-        double total = 0;
-        
-        for (OrderItem item : order.items) {
-            Product product = productRepository.findById(item.product.id)
-                    .orElseThrow(() -> new EntityNotFoundException("Product not found with id: " + item.product.id));
+        if (stockCombiner.isEnabled()) {
+            return createOrderCombined(order);
+        }
+        return transactionTemplate.execute(status -> {
+            // Update inventory with one batch of conditional decrements, in id order so
+            // concurrent orders lock rows in the same sequence. A row only changes if enough
+            // stock is left, so concurrent orders can never oversell.
+            Map<Long, Integer> requested = requestedQuantities(order.items);
+            int[] updateCounts = productRepository.decrementStock(requested);
+            int index = 0;
+            for (Long productId : requested.keySet()) {
+                if (updateCounts[index++] == 0) {
+                    throw stockUnavailable(productId);
+                }
+            }
+            return saveOrder(order, requested);
+        });
+    }
+    
+    /**
+     * Reserves stock through the {@link StockCombiner}, so concurrent orders for the same hot
+     * product share one stock update, then saves the order in its own transaction. Reserved
+     * stock is returned if a later product or the order insert fails.
+     */
+    public Order createOrderCombined(Order order) {
+        Map<Long, Integer> requested = requestedQuantities(order.items);
+        Map<Long, Integer> reserved = new TreeMap<>();
+        try {
+            for (Map.Entry<Long, Integer> entry : requested.entrySet()) {
+                if (stockCombiner.reserve(entry.getKey(), entry.getValue()) != StockCombiner.Outcome.RESERVED) {
+                    throw stockUnavailable(entry.getKey());
+                }
+                reserved.put(entry.getKey(), entry.getValue());
+            }
+            return transactionTemplate.execute(status -> saveOrder(order, requested));
+        } catch (RuntimeException ex) {
+            stockCombiner.release(reserved);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Creates many orders in one transaction. Every referenced product is locked once, in id
+     * order, orders are admitted against the locked stock in submission order, and stock for
+     * all admitted orders is taken with one grouped update per product. Orders that cannot be
+     * fulfilled are rejected with a reason without affecting the rest of the batch.
+     */
+    public List<OrderBatchResult> createOrders(List<Order> orders) {
+        if (orders.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Batch of " + orders.size() + " orders exceeds the maximum of " + maxBatchSize);
+        }
+        return transactionTemplate.execute(status -> {
+            Set<Long> productIds = new TreeSet<>();
+            for (Order order : orders) {
+                if (order != null && order.items != null) {
+                    for (OrderItem item : order.items) {
+                        if (item != null && item.product != null && item.product.id != null) {
+                            productIds.add(item.product.id);
+                        }
+                    }
+                }
+            }
+            Map<Long, Product> locked = productRepository.findAllByIdForUpdate(productIds).stream()
+                    .collect(Collectors.toMap(product -> product.id, Function.identity()));
+            Map<Long, Integer> available = new HashMap<>();
+            locked.values().forEach(product -> available.put(product.id, product.quantity));
             
-            // Check if enough stock is available
-            if (product.quantity < item.quantity) {
-                throw new IllegalStateException("Not enough stock for product: " + product.name);
+            OrderBatchResult[] results = new OrderBatchResult[orders.size()];
+            Map<Long, Integer> reserved = new TreeMap<>();
+            List<Integer> admitted = new ArrayList<>();
+            for (int i = 0; i < orders.size(); i++) {
+                Order order = orders.get(i);
+                String reason = admit(order, locked, available);
+                if (reason != null) {
+                    results[i] = OrderBatchResult.rejected(i, reason);
+                } else {
+                    admitted.add(i);
+                    requestedQuantities(order.items).forEach((id, quantity) -> reserved.merge(id, quantity, Integer::sum));
+                }
+            }
+            if (admitted.isEmpty()) {
+                return Arrays.asList(results);
             }
             
-            // Update inventory
-            product.quantity = product.quantity - item.quantity;
-            productRepository.save(product);
+            // The rows are locked, so every grouped decrement must apply
+            int[] updateCounts = productRepository.decrementStock(reserved);
+            for (int count : updateCounts) {
+                if (count == 0) {
+                    throw new IllegalStateException("Stock changed while the batch held its product locks");
+                }
+            }
             
+            Map<Long, Product> products = reloadStock(reserved.keySet());
+            List<Order> created = new ArrayList<>(admitted.size());
+            for (int i : admitted) {
+                created.add(priceOrder(orders.get(i), products));
+            }
+            orderRepository.saveAll(created);
+            for (int i : admitted) {
+                Order order = orders.get(i);
+                results[i] = OrderBatchResult.created(i, order.id, order.totalAmount);
+            }
+            return Arrays.asList(results);
+        });
+    }
+    
+    private static String admit(Order order, Map<Long, Product> products, Map<Long, Integer> available) {
+        if (order == null) {
+            return "Order must not be null";
+        }
+        if (order.items == null || order.items.isEmpty()) {
+            return "Order has no items";
+        }
+        for (OrderItem item : order.items) {
+            if (item == null || item.product == null || item.product.id == null) {
+                return "Order item must reference a product";
+            }
+        }
+        Map<Long, Integer> requested;
+        try {
+            requested = requestedQuantities(order.items);
+        } catch (IllegalArgumentException ex) {
+            return ex.getMessage();
+        }
+        for (Map.Entry<Long, Integer> entry : requested.entrySet()) {
+            Product product = products.get(entry.getKey());
+            if (product == null) {
+                return "Product not found with id: " + entry.getKey();
+            }
+            if (available.get(entry.getKey()) < entry.getValue()) {
+                return "Not enough stock for product: " + product.name;
+            }
+        }
+        requested.forEach((id, quantity) -> available.merge(id, -quantity, Integer::sum));
+        return null;
+    }
+    
+    private RuntimeException stockUnavailable(Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new EntityNotFoundException("Product not found with id: " + productId));
+        return new IllegalStateException("Not enough stock for product: " + product.name);
+    }
+    
+    private Order saveOrder(Order order, Map<Long, Integer> requested) {
+        return orderRepository.save(priceOrder(order, reloadStock(requested.keySet())));
+    }
+    
+    private Map<Long, Product> reloadStock(Collection<Long> productIds) {
+        // Load every referenced product, with its updated stock, in a single query
+        Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(product -> product.id, Function.identity()));
+        products.values().forEach(product -> eventPublisher.publishEvent(
+                ProductChangedEvent.stockChanged(product.id, product.quantity, product.updatedAt, product.version)));
+        return products;
+    }
+    
+    private Order priceOrder(Order order, Map<Long, Product> products) {
+        // Calculate total amount
+        double total = 0;
+        
+        for (OrderItem item : order.items) {
             // Set the product and calculate line total
-            item.product = product;
-            item.price = product.price;
+            item.product = products.get(item.product.id);
+            item.price = item.product.price;
             total += item.price * item.quantity;
         }
         
@@ -58,12 +246,38 @@ public class OrderService {
         }
         
         order.totalAmount = total;
-        
-        return orderRepository.save(order);
+        return order;
+    }
+    
+    // A non-positive or overflowing quantity would turn the conditional decrement into an increment
+    private static Map<Long, Integer> requestedQuantities(List<OrderItem> items) {
+        Map<Long, Integer> requested = new TreeMap<>();
+        for (OrderItem item : items) {
+            if (item.quantity <= 0) {
+                throw new IllegalArgumentException("Quantity must be positive for product id: " + item.product.id);
+            }
+            try {
+                requested.merge(item.product.id, item.quantity, Math::addExact);
+            } catch (ArithmeticException ex) {
+                throw new IllegalArgumentException("Total quantity exceeds " + Integer.MAX_VALUE
+                        + " for product id: " + item.product.id);
+            }
+        }
+        return requested;
+    }
+    
+    public Slice<Order> getOrders(Long afterId, int limit) {
+        return orderRepository.findByIdGreaterThanOrderByIdAsc(afterId,
+                PageRequest.of(0, KeysetCursor.boundedPageSize(limit)));
+    }
+    
+    public Slice<OrderSummary> getOrderSummaries(Long afterId, int limit) {
+        return orderRepository.findSummariesAfter(afterId, PageRequest.of(0, KeysetCursor.boundedPageSize(limit)));
     }
     
-    public List<Order> getAllOrders() {
-        return orderRepository.findAll();
+    public Slice<OrderDetail> getOrderDetails(Long afterId, int limit) {
+        Slice<OrderSummary> summaries = getOrderSummaries(afterId, limit);
+        return new SliceImpl<>(withLines(summaries.getContent()), summaries.getPageable(), summaries.hasNext());
     }
     
     public Order getOrder(Long id) {
@@ -94,7 +308,60 @@ public class OrderService {
         return orderRepository.findByCustomerEmail(email);
     }
     
+    public List<OrderSummary> findSummariesByStatus(String status) {
+        return orderRepository.findSummariesByStatus(status);
+    }
+    
+    public List<OrderDetail> findDetailsByStatus(String status) {
+        return withLines(orderRepository.findSummariesByStatus(status));
+    }
+    
+    public List<OrderSummary> findSummariesByCustomerEmail(String email) {
+        return orderRepository.findSummariesByCustomerEmail(email);
+    }
+    
+    public List<OrderDetail> findDetailsByCustomerEmail(String email) {
+        return withLines(orderRepository.findSummariesByCustomerEmail(email));
+    }
+    
     public List<Order> findByOrderDateBetween(LocalDateTime startDate, LocalDateTime endDate) {
         return orderRepository.findByOrderDateBetween(startDate, endDate);
     }
-} 
\ No newline at end of file
+    
+    @Transactional(readOnly = true)
+    public long exportByOrderDateBetween(LocalDateTime startDate, LocalDateTime endDate, Consumer<Order> consumer) {
+        long exported = 0;
+        try (Stream<Order> orders = orderRepository.streamByOrderDateBetween(startDate, endDate)) {
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                Order order = iterator.next();
+                consumer.accept(order);
+                
+                // Keep the persistence context from growing with the result set
+                entityManager.detach(order);
+                if (++exported % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return exported;
+    }
+    
+    private List<OrderDetail> withLines(List<OrderSummary> summaries) {
+        // One projection query per chunk of orders instead of loading entity graphs
+        Map<Long, List<OrderLine>> linesByOrder = new HashMap<>();
+        List<Long> orderIds = summaries.stream().map(s -> s.id).collect(Collectors.toList());
+        for (int from = 0; from < orderIds.size(); from += LINE_QUERY_CHUNK_SIZE) {
+            List<Long> chunk = orderIds.subList(from, Math.min(from + LINE_QUERY_CHUNK_SIZE, orderIds.size()));
+            for (OrderLine line : orderRepository.findLinesByOrderIds(chunk)) {
+                linesByOrder.computeIfAbsent(line.orderId, id -> new ArrayList<>()).add(line);
+            }
+        }
+        
+        List<OrderDetail> details = new ArrayList<>(summaries.size());
+        for (OrderSummary summary : summaries) {
+            details.add(new OrderDetail(summary, linesByOrder.getOrDefault(summary.id, Collections.emptyList())));
+        }
+        return details;
+    }
+}
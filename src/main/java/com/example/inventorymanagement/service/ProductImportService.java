@@ -0,0 +1,271 @@
+package com.example.inventorymanagement.service;
+
+import com.example.inventorymanagement.dto.ImportError;
+import com.example.inventorymanagement.dto.ImportReport;
+import com.example.inventorymanagement.dto.ProductImportRow;
+import com.example.inventorymanagement.model.Product;
+import com.example.inventorymanagement.repository.ProductRepository;
+import com.example.inventorymanagement.utils.CsvReader;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a product catalog from CSV or NDJSON and upserts it in fixed-size batches, one
+ * transaction per batch, so memory stays flat however large the upload is. Rows with an id
+ * update that product; rows without one create a new product.
+ */
+@Service
+public class ProductImportService {
+    private static final Logger log = LoggerFactory.getLogger(ProductImportService.class);
+    // Length of the product text columns (VARCHAR(255) in V1__create_schema.sql)
+    private static final int MAX_TEXT_LENGTH = 255;
+    
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+    
+    private final ProductRepository productRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader rowReader;
+    private final int batchSize;
+    private final int maxErrors;
+    private final int maxRowLength;
+    
+    @Autowired
+    public ProductImportService(ProductRepository productRepository, EntityManager entityManager,
+                                PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                                @Value("${inventory.import.batch-size:1000}") int batchSize,
+                                @Value("${inventory.import.max-errors:100}") int maxErrors,
+                                @Value("${inventory.import.max-row-length:" + CsvReader.DEFAULT_MAX_RECORD_LENGTH + "}") int maxRowLength) {
+        this.productRepository = productRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rowReader = objectMapper.readerFor(ProductImportRow.class);
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+        this.maxRowLength = maxRowLength;
+    }
+    
+    public ImportReport importProducts(InputStream input, Format format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        ImportReport report = new ImportReport();
+        List<PendingRow> batch = new ArrayList<>(batchSize);
+        if (format == Format.CSV) {
+            readCsv(reader, report, batch);
+        } else {
+            readNdjson(reader, report, batch);
+        }
+        writeBatch(batch, report);
+        log.info("Imported products: {} rows read, {} created, {} updated, {} failed",
+                report.rowsRead, report.created, report.updated, report.failed);
+        return report;
+    }
+    
+    private void readCsv(BufferedReader reader, ImportReport report, List<PendingRow> batch) throws IOException {
+        CsvReader csv = new CsvReader(reader, maxRowLength);
+        try {
+            readCsvRecords(csv, report, batch);
+        } catch (CsvReader.MalformedCsvException ex) {
+            // The reader cannot resynchronise, so the rows read so far are kept and the rest is skipped
+            report.rowsRead++;
+            reject(report, ex.getLine(), ex.getMessage() + "; the rest of the file was not imported");
+        }
+    }
+    
+    private void readCsvRecords(CsvReader csv, ImportReport report, List<PendingRow> batch) throws IOException {
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("name")) {
+            throw new IllegalArgumentException("CSV header must include a name column");
+        }
+        
+        List<String> fields;
+        while ((fields = csv.next()) != null) {
+            report.rowsRead++;
+            long line = csv.getRecordLine();
+            try {
+                ProductImportRow row = new ProductImportRow();
+                row.id = column(fields, columns, "id", Long::valueOf);
+                row.name = column(fields, columns, "name", Function.identity());
+                row.description = column(fields, columns, "description", Function.identity());
+                row.price = column(fields, columns, "price", Double::valueOf);
+                row.quantity = column(fields, columns, "quantity", Integer::valueOf);
+                row.category = column(fields, columns, "category", Function.identity());
+                accept(line, row, report, batch);
+            } catch (NumberFormatException ex) {
+                reject(report, line, "Invalid number: " + ex.getMessage());
+            }
+        }
+    }
+    
+    private void readNdjson(BufferedReader reader, ImportReport report, List<PendingRow> batch) throws IOException {
+        long line = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            report.rowsRead++;
+            try {
+                accept(line, rowReader.readValue(text), report, batch);
+            } catch (JsonProcessingException ex) {
+                reject(report, line, "Invalid JSON: " + ex.getOriginalMessage());
+            }
+        }
+    }
+    
+    private static <T> T column(List<String> fields, Map<String, Integer> columns, String name,
+                                Function<String, T> parser) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size() || fields.get(index).isBlank()) {
+            return null;
+        }
+        return parser.apply(fields.get(index).trim());
+    }
+    
+    private void accept(long line, ProductImportRow row, ImportReport report, List<PendingRow> batch) {
+        String error = validate(row);
+        if (error != null) {
+            reject(report, line, error);
+            return;
+        }
+        batch.add(new PendingRow(line, row));
+        if (batch.size() >= batchSize) {
+            writeBatch(batch, report);
+        }
+    }
+    
+    private static String validate(ProductImportRow row) {
+        if (row.name == null || row.name.isBlank()) {
+            return "name is required";
+        }
+        if (row.name.length() > MAX_TEXT_LENGTH) {
+            return "name must not be longer than " + MAX_TEXT_LENGTH + " characters";
+        }
+        if (row.description != null && row.description.length() > MAX_TEXT_LENGTH) {
+            return "description must not be longer than " + MAX_TEXT_LENGTH + " characters";
+        }
+        if (row.category != null && row.category.length() > MAX_TEXT_LENGTH) {
+            return "category must not be longer than " + MAX_TEXT_LENGTH + " characters";
+        }
+        if (row.price == null || row.price < 0) {
+            return "price is required and must not be negative";
+        }
+        if (row.quantity == null || row.quantity < 0) {
+            return "quantity is required and must not be negative";
+        }
+        return null;
+    }
+    
+    private void writeBatch(List<PendingRow> batch, ImportReport report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<ImportError> missing = new ArrayList<>();
+        long[] counts = new long[2];
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> ids = batch.stream()
+                        .filter(pending -> pending.row.id != null)
+                        .map(pending -> pending.row.id)
+                        .collect(Collectors.toList());
+                Map<Long, Product> existing = productRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(p -> p.id, Function.identity()));
+                
+                LocalDateTime now = LocalDateTime.now();
+                for (PendingRow pending : batch) {
+                    ProductImportRow row = pending.row;
+                    Product product;
+                    if (row.id == null) {
+                        product = new Product();
+                        product.createdAt = now;
+                        counts[0]++;
+                    } else {
+                        product = existing.get(row.id);
+                        if (product == null) {
+                            missing.add(new ImportError(pending.line, "Product not found with id: " + row.id));
+                            continue;
+                        }
+                        counts[1]++;
+                    }
+                    product.name = row.name;
+                    product.description = row.description;
+                    product.price = row.price;
+                    product.quantity = row.quantity;
+                    product.category = row.category;
+                    product.updatedAt = now;
+                    if (row.id == null) {
+                        entityManager.persist(product);
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            report.created += counts[0];
+            report.updated += counts[1];
+            missing.forEach(error -> reject(report, error.line, error.message));
+        } catch (DataAccessException | PersistenceException ex) {
+            // The flush runs on the EntityManager directly, so its failures arrive untranslated
+            log.warn("Import batch of {} rows failed", batch.size(), ex);
+            String cause = NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+            for (PendingRow pending : batch) {
+                reject(report, pending.line, "Batch failed: " + cause);
+            }
+        }
+        batch.clear();
+    }
+    
+    private void reject(ImportReport report, long line, String message) {
+        report.failed++;
+        if (report.errors.size() < maxErrors) {
+            report.errors.add(new ImportError(line, message));
+        } else {
+            report.errorsTruncated = true;
+        }
+    }
+    
+    private static class PendingRow {
+        final long line;
+        final ProductImportRow row;
+        
+        PendingRow(long line, ProductImportRow row) {
+            this.line = line;
+            this.row = row;
+        }
+    }
+}
@@ -1,33 +1,100 @@
 package com.example.inventorymanagement.service;
 
+import com.example.inventorymanagement.cache.ProductCache;
+import com.example.inventorymanagement.dto.ProductLookupResult;
+import com.example.inventorymanagement.dto.ProductSuggestion;
+import com.example.inventorymanagement.dto.StockAdjustment;
+import com.example.inventorymanagement.dto.StockAdjustmentResult;
+import com.example.inventorymanagement.dto.StockLevel;
+import com.example.inventorymanagement.event.ProductChangedEvent;
+import com.example.inventorymanagement.event.StockEventBroadcaster;
 import com.example.inventorymanagement.model.Product;
 import com.example.inventorymanagement.repository.ProductRepository;
+import com.example.inventorymanagement.search.LowStockIndex;
+import com.example.inventorymanagement.search.ProductAutocompleteIndex;
+import com.example.inventorymanagement.search.ProductSearchIndex;
+import com.example.inventorymanagement.utils.KeysetCursor;
 import javax.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ProductService {
     private final ProductRepository productRepository;
+    private final ProductCache productCache;
+    private final ProductSearchIndex searchIndex;
+    private final ProductAutocompleteIndex autocompleteIndex;
+    private final LowStockIndex lowStockIndex;
+    private final StockEventBroadcaster stockEventBroadcaster;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxAdjustments;
     
     @Autowired
-    public ProductService(ProductRepository productRepository) {
+    public ProductService(ProductRepository productRepository, ProductCache productCache,
+                          ProductSearchIndex searchIndex, ProductAutocompleteIndex autocompleteIndex,
+                          LowStockIndex lowStockIndex, StockEventBroadcaster stockEventBroadcaster,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${inventory.stock.adjust.max-batch-size:5000}") int maxAdjustments) {
         this.productRepository = productRepository;
+        this.productCache = productCache;
+        this.searchIndex = searchIndex;
+        this.autocompleteIndex = autocompleteIndex;
+        this.lowStockIndex = lowStockIndex;
+        this.stockEventBroadcaster = stockEventBroadcaster;
+        this.eventPublisher = eventPublisher;
+        this.maxAdjustments = maxAdjustments;
     }
     
-    public List<Product> getAllProducts() {
-        return productRepository.findAll();
+    public Slice<Product> getProducts(Long afterId, int limit) {
+        return productRepository.findByIdGreaterThanOrderByIdAsc(afterId,
+                PageRequest.of(0, KeysetCursor.boundedPageSize(limit)));
     }
     
     public Product getProduct(Long id) {
-        return productRepository.findById(id)
+        return productCache.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Product not found with id: " + id));
     }
     
+    public ProductLookupResult lookupProducts(List<Long> ids) {
+        Set<Long> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (distinctIds.size() > KeysetCursor.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("At most " + KeysetCursor.MAX_PAGE_SIZE + " products can be looked up at once");
+        }
+        
+        // One bulk cache lookup; only the misses go to the database, in a single query
+        Map<Long, Product> products = productCache.findAllById(distinctIds);
+        ProductLookupResult result = new ProductLookupResult();
+        for (Long id : distinctIds) {
+            Product product = products.get(id);
+            if (product != null) {
+                result.products.add(product);
+            } else {
+                result.missingIds.add(id);
+            }
+        }
+        return result;
+    }
+    
     @Transactional
     public Product addProduct(Product product) {
         product.createdAt = LocalDateTime.now();
@@ -37,7 +104,9 @@ public class ProductService {
     
     @Transactional
     public Product updateProduct(Long id, Product product) {
-        Product existingProduct = getProduct(id);
+        // Cached products are shared, so modify a freshly loaded instance
+        Product existingProduct = productRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Product not found with id: " + id));
         
         existingProduct.name = product.name;
         existingProduct.description = product.description;
@@ -49,6 +118,76 @@ public class ProductService {
         return productRepository.save(existingProduct);
     }
     
+    @Transactional
+    public StockAdjustmentResult adjustStock(Long id, int delta) {
+        StockAdjustmentResult result = adjustStock(List.of(new StockAdjustment(id, delta))).get(0);
+        if (result.status == StockAdjustmentResult.Status.NOT_FOUND) {
+            throw new EntityNotFoundException("Product not found with id: " + id);
+        }
+        if (result.status == StockAdjustmentResult.Status.INSUFFICIENT_STOCK) {
+            throw new IllegalStateException("Not enough stock for product id: " + id);
+        }
+        return result;
+    }
+    
+    /**
+     * Applies signed stock deltas in place without loading the products. Each adjustment is
+     * applied or rejected on its own; none can take a product's stock below zero. Each result
+     * carries the product's quantity right after that adjustment, so a product adjusted several
+     * times reports each intermediate level.
+     */
+    @Transactional
+    public List<StockAdjustmentResult> adjustStock(List<StockAdjustment> adjustments) {
+        if (adjustments.size() > maxAdjustments) {
+            throw new IllegalArgumentException("At most " + maxAdjustments + " stock adjustments can be applied at once");
+        }
+        for (StockAdjustment adjustment : adjustments) {
+            if (adjustment.productId == null) {
+                throw new IllegalArgumentException("Every stock adjustment needs a productId");
+            }
+        }
+        int[] updateCounts = productRepository.adjustStock(adjustments);
+        
+        Set<Long> productIds = adjustments.stream().map(a -> a.productId).collect(Collectors.toSet());
+        Map<Long, StockLevel> levels = productRepository.findStockLevels(productIds).stream()
+                .collect(Collectors.toMap(level -> level.productId, Function.identity()));
+        
+        // The updated rows stay locked until commit, so each product's level after the batch
+        // minus the deltas applied after an adjustment is its level right after that adjustment
+        Integer[] quantities = new Integer[adjustments.size()];
+        Map<Long, Integer> running = new HashMap<>();
+        levels.forEach((id, level) -> running.put(id, level.quantity));
+        for (int i = adjustments.size() - 1; i >= 0; i--) {
+            StockAdjustment adjustment = adjustments.get(i);
+            Integer quantity = running.get(adjustment.productId);
+            quantities[i] = quantity;
+            if (updateCounts[i] > 0) {
+                running.put(adjustment.productId, quantity - adjustment.delta);
+            }
+        }
+        
+        List<StockAdjustmentResult> results = new ArrayList<>(adjustments.size());
+        Set<Long> changed = new LinkedHashSet<>();
+        for (int i = 0; i < adjustments.size(); i++) {
+            StockAdjustment adjustment = adjustments.get(i);
+            StockAdjustmentResult.Status status;
+            if (updateCounts[i] > 0) {
+                status = StockAdjustmentResult.Status.APPLIED;
+                changed.add(adjustment.productId);
+            } else if (quantities[i] == null) {
+                status = StockAdjustmentResult.Status.NOT_FOUND;
+            } else {
+                status = StockAdjustmentResult.Status.INSUFFICIENT_STOCK;
+            }
+            results.add(new StockAdjustmentResult(i, adjustment.productId, adjustment.delta, status, quantities[i]));
+        }
+        for (Long id : changed) {
+            StockLevel level = levels.get(id);
+            eventPublisher.publishEvent(ProductChangedEvent.stockChanged(id, level.quantity, level.updatedAt, level.version));
+        }
+        return results;
+    }
+    
     @Transactional
     public void deleteProduct(Long id) {
         if (!productRepository.existsById(id)) {
@@ -57,8 +196,29 @@ public class ProductService {
         productRepository.deleteById(id);
     }
     
-    public List<Product> searchProductByName(String name) {
-        return productRepository.findByNameContainingIgnoreCase(name);
+    /**
+     * Substring search on product names. Queries too short for the trigram index, and any query
+     * while it is still being built, run as a LIKE that stops after {@code limit} matches; a
+     * short needle matches so many names that the scan rarely runs far.
+     */
+    public List<Product> searchProductByName(String name, int limit) {
+        if (name.strip().length() < ProductSearchIndex.MIN_QUERY_LENGTH || !searchIndex.isReady()) {
+            return productRepository.findByNameContainingIgnoreCase(name.strip(), PageRequest.of(0, limit, Sort.by("id")));
+        }
+        return findAllInOrder(searchIndex.search(name, limit));
+    }
+    
+    public List<ProductSuggestion> autocomplete(String prefix, int limit) {
+        if (!autocompleteIndex.isReady()) {
+            if (prefix.isBlank()) {
+                return List.of();
+            }
+            return productRepository.findByNameStartingWithIgnoreCase(prefix.strip(),
+                            PageRequest.of(0, limit, Sort.by("name", "id"))).stream()
+                    .map(product -> new ProductSuggestion(product.id, product.name))
+                    .collect(Collectors.toList());
+        }
+        return autocompleteIndex.suggest(prefix, limit);
     }
     
     public List<Product> findByCategory(String category) {
@@ -66,6 +226,21 @@ public class ProductService {
     }
     
     public List<Product> findLowStockProducts(int threshold) {
-        return productRepository.findLowStockProducts(threshold);
+        if (!lowStockIndex.isReady()) {
+            return productRepository.findLowStockProducts(threshold);
+        }
+        return findAllInOrder(lowStockIndex.findBelow(threshold));
+    }
+    
+    public SseEmitter subscribeToStockChanges(Set<Long> productIds) {
+        return stockEventBroadcaster.subscribe(productIds);
+    }
+    
+    private List<Product> findAllInOrder(List<Long> ids) {
+        Map<Long, Product> products = productCache.findAllById(ids);
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 } 
\ No newline at end of file
@@ -0,0 +1,224 @@
+package com.example.inventorymanagement.service;
+
+import com.example.inventorymanagement.event.ProductChangedEvent;
+import com.example.inventorymanagement.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Flat-combining front for stock reservations on hot products.
+ * Concurrent callers for the same product queue up; whichever caller wins the product's
+ * combiner flag waits a short window for others to join, then reserves stock for the whole
+ * group with one conditional update and resolves every caller's outcome individually.
+ * Reservations commit on their own, so callers must not hold a transaction while reserving.
+ * A product's slot only exists while callers for it are inside {@link #reserve}, so the map
+ * stays as small as the set of products being ordered right now, however large the catalog.
+ */
+@Component
+public class StockCombiner {
+    public enum Outcome {
+        RESERVED,
+        INSUFFICIENT_STOCK,
+        NOT_FOUND
+    }
+    
+    private static final long MIN_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+    
+    @Autowired
+    public StockCombiner(ProductRepository productRepository,
+                         ApplicationEventPublisher eventPublisher,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${inventory.stock.combining.enabled:false}") boolean enabled,
+                         @Value("${inventory.stock.combining.window-micros:200}") long windowMicros,
+                         @Value("${inventory.stock.combining.max-batch-size:256}") int maxBatchSize) {
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.maxBatchSize = maxBatchSize;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public Outcome reserve(Long productId, int quantity) {
+        Slot slot = acquireSlot(productId);
+        try {
+            Request request = new Request(quantity);
+            slot.pending.add(request);
+            
+            while (!request.result.isDone()) {
+                if (slot.combining.compareAndSet(false, true)) {
+                    try {
+                        // Give concurrent callers a micro-window to join this round
+                        LockSupport.parkNanos(windowNanos);
+                        combine(productId, slot);
+                    } finally {
+                        slot.combining.set(false);
+                    }
+                } else {
+                    awaitQuietly(request.result);
+                }
+            }
+            return join(request.result);
+        } finally {
+            releaseSlot(productId);
+        }
+    }
+    
+    public void release(Map<Long, Integer> quantities) {
+        if (!quantities.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                productRepository.incrementStock(quantities);
+                LocalDateTime now = LocalDateTime.now();
+                quantities.keySet().forEach(productId ->
+                        eventPublisher.publishEvent(ProductChangedEvent.stockChanged(productId, null, now, null)));
+            });
+        }
+    }
+    
+    /**
+     * Number of products with callers currently reserving stock.
+     */
+    int activeSlots() {
+        return slots.size();
+    }
+    
+    // The user counts are only changed inside compute, which locks the product's map entry
+    private Slot acquireSlot(Long productId) {
+        return slots.compute(productId, (id, slot) -> {
+            Slot current = slot != null ? slot : new Slot();
+            current.users++;
+            return current;
+        });
+    }
+    
+    private void releaseSlot(Long productId) {
+        // Every caller waits for its own request, so the last one out leaves nothing pending
+        slots.computeIfPresent(productId, (id, slot) -> --slot.users == 0 ? null : slot);
+    }
+    
+    private void combine(Long productId, Slot slot) {
+        List<Request> batch = new ArrayList<>();
+        Request next;
+        while (batch.size() < maxBatchSize && (next = slot.pending.poll()) != null) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        
+        // Outcomes are only handed out once the reservation has committed; if the commit fails,
+        // every caller sees the failure rather than a reservation that was rolled back
+        Outcome[] outcomes;
+        try {
+            outcomes = transactionTemplate.execute(status -> reserveBatch(productId, batch));
+        } catch (RuntimeException | Error ex) {
+            batch.forEach(request -> request.result.completeExceptionally(ex));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result.complete(outcomes[i]);
+        }
+    }
+    
+    private Outcome[] reserveBatch(Long productId, List<Request> batch) {
+        Outcome[] outcomes = new Outcome[batch.size()];
+        while (true) {
+            Optional<Integer> available = productRepository.findQuantityById(productId);
+            if (available.isEmpty()) {
+                Arrays.fill(outcomes, Outcome.NOT_FOUND);
+                return outcomes;
+            }
+            
+            // Grant requests in arrival order while the stock read above covers them
+            int remaining = available.get();
+            int granted = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                if (batch.get(i).quantity <= remaining) {
+                    remaining -= batch.get(i).quantity;
+                    granted += batch.get(i).quantity;
+                    outcomes[i] = Outcome.RESERVED;
+                } else {
+                    outcomes[i] = Outcome.INSUFFICIENT_STOCK;
+                }
+            }
+            
+            // The conditional decrement fails if an uncombined writer took stock in between; re-read and retry
+            if (granted == 0 || productRepository.decrementStock(Collections.singletonMap(productId, granted))[0] > 0) {
+                return outcomes;
+            }
+        }
+    }
+    
+    private void awaitQuietly(CompletableFuture<Outcome> result) {
+        try {
+            result.get(Math.max(windowNanos * 2, MIN_WAIT_NANOS), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException ex) {
+            // Either not combined yet, or failed; the caller's loop decides
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reserving stock", ex);
+        }
+    }
+    
+    private Outcome join(CompletableFuture<Outcome> result) {
+        try {
+            return result.join();
+        } catch (RuntimeException ex) {
+            Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw ex;
+        }
+    }
+    
+    private static class Slot {
+        final Queue<Request> pending = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean combining = new AtomicBoolean();
+        int users;
+    }
+    
+    private static class Request {
+        final int quantity;
+        final CompletableFuture<Outcome> result = new CompletableFuture<>();
+        
+        Request(int quantity) {
+            this.quantity = quantity;
+        }
+    }
+}
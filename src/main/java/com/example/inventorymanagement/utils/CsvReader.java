@@ -0,0 +1,144 @@
+package com.example.inventorymanagement.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: comma separated, double-quoted fields with "" escapes,
+ * quoted fields may span lines. Holds one record in memory at a time, and refuses records
+ * longer than a limit so an unterminated quote cannot pull the rest of the input into memory.
+ */
+public class CsvReader {
+    public static final int DEFAULT_MAX_RECORD_LENGTH = 65_536;
+    
+    private final Reader reader;
+    private final int maxRecordLength;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private long line = 1;
+    private long recordLine;
+    private int pending = -2;
+    
+    public CsvReader(Reader reader) {
+        this(reader, DEFAULT_MAX_RECORD_LENGTH);
+    }
+    
+    public CsvReader(Reader reader, int maxRecordLength) {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+    
+    /**
+     * Returns the fields of the next record, or null at end of input. Blank lines are skipped.
+     *
+     * @throws MalformedCsvException if a quoted field is never closed or a record exceeds the
+     *                               length limit; the input cannot be read further
+     */
+    public List<String> next() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean sawAny = false;
+        int length = 0;
+        recordLine = line;
+        int c;
+        while ((c = read()) != -1) {
+            if (++length > maxRecordLength) {
+                throw new MalformedCsvException(recordLine, "Record starting on line " + recordLine
+                        + " is longer than " + maxRecordLength + " characters"
+                        + (quoted ? " (unterminated quoted field?)" : ""));
+            }
+            if (quoted) {
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(following);
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+                sawAny = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                sawAny = true;
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread(following);
+                    }
+                }
+                line++;
+                if (sawAny || field.length() > 0) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                recordLine = line;
+            } else {
+                field.append((char) c);
+                sawAny = true;
+            }
+        }
+        if (quoted) {
+            throw new MalformedCsvException(recordLine, "Unterminated quoted field starting on line " + recordLine);
+        }
+        if (sawAny || field.length() > 0) {
+            fields.add(field.toString());
+            return fields;
+        }
+        return null;
+    }
+    
+    /**
+     * Line number on which the record last returned by {@link #next()} started.
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+    
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+    
+    private void unread(int c) {
+        pending = c;
+    }
+    
+    public static class MalformedCsvException extends IOException {
+        private final long line;
+        
+        public MalformedCsvException(long line, String message) {
+            super(message);
+            this.line = line;
+        }
+        
+        public long getLine() {
+            return line;
+        }
+    }
+}
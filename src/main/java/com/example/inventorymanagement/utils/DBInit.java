@@ -17,8 +17,15 @@ public class DBInit {
     private static final Logger log = LoggerFactory.getLogger(DBInit.class);
 
     @Bean
-    CommandLineRunner initDatabase(ProductRepository repository) {
+    CommandLineRunner initDatabase(ProductRepository repository, DatasetSeeder seeder) {
         return args -> {
+            if (seeder.isEnabled()) {
+                if (repository.count() == 0) {
+                    log.info("Seeding database with a synthetic dataset");
+                    seeder.seed();
+                }
+                return;
+            }
             log.info("Preloading database with sample products");
             
             if (repository.count() == 0) {
@@ -0,0 +1,330 @@
+package com.example.inventorymanagement.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates a large synthetic catalog and order history with batched JDBC inserts, so load
+ * tests and benchmarks can run against realistic volumes instead of the five sample products.
+ * Categories, customers and products are skewed the way real traffic is (a few hot products
+ * and repeat customers), and order volume grows towards the present. The same seed always
+ * produces the same rows; order dates are counted back from the start of the current day.
+ *
+ * Rows are written with explicit ids, bypassing JPA, and the entity sequences are restarted
+ * past them afterwards so the application's own inserts continue without collisions.
+ */
+@Component
+public class DatasetSeeder {
+    private static final Logger log = LoggerFactory.getLogger(DatasetSeeder.class);
+    
+    // Matches the allocationSize of the entity sequence generators
+    private static final int ID_ALLOCATION_SIZE = 50;
+    
+    private static final String[] CATEGORIES = {
+            "Electronics", "Accessories", "Home", "Kitchen", "Office", "Sports",
+            "Toys", "Books", "Garden", "Health", "Beauty", "Automotive"
+    };
+    private static final double[] CATEGORY_WEIGHTS = {18, 16, 12, 10, 9, 8, 7, 6, 5, 4, 3, 2};
+    private static final double[] CATEGORY_BASE_PRICES = {450, 35, 80, 45, 25, 60, 30, 18, 40, 22, 28, 95};
+    private static final String[] ADJECTIVES = {
+            "Compact", "Wireless", "Premium", "Portable", "Smart", "Classic", "Ergonomic", "Deluxe",
+            "Eco", "Pro", "Mini", "Ultra", "Heavy-Duty", "Modular", "Vintage", "Essential"
+    };
+    private static final String[] NOUNS = {
+            "Laptop", "Headphones", "Monitor", "Keyboard", "Lamp", "Blender", "Chair", "Backpack",
+            "Speaker", "Charger", "Kettle", "Desk", "Camera", "Drill", "Bottle", "Watch",
+            "Router", "Mixer", "Tent", "Scale", "Brush", "Puzzle", "Notebook", "Hose"
+    };
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "Wei", "Fatima", "Carlos", "Anna", "Raj", "Yuki", "Olga", "Kwame",
+            "Sofia", "Liam", "Aisha", "Mateo", "Emma", "Noah", "Chen", "Priya", "Lucas", "Zara"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Garcia", "Wang", "Khan", "Silva", "Novak", "Patel", "Tanaka", "Ivanova", "Mensah",
+            "Rossi", "Murphy", "Haddad", "Lopez", "Muller", "Kim", "Nguyen", "Sharma", "Martin", "Okafor"
+    };
+    private static final String[] EMAIL_DOMAINS = {
+            "gmail.com", "outlook.com", "yahoo.com", "icloud.com", "proton.me", "example.com"
+    };
+    private static final double[] EMAIL_DOMAIN_WEIGHTS = {45, 20, 12, 10, 3, 10};
+    
+    private static final double[] CATEGORY_CUMULATIVE = cumulative(CATEGORY_WEIGHTS);
+    private static final double[] EMAIL_DOMAIN_CUMULATIVE = cumulative(EMAIL_DOMAIN_WEIGHTS);
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int productCount;
+    private final int orderCount;
+    private final int maxItemsPerOrder;
+    private final int orderWindowDays;
+    private final long randomSeed;
+    private final int batchSize;
+    
+    @Autowired
+    public DatasetSeeder(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                         @Value("${inventory.seed.enabled:false}") boolean enabled,
+                         @Value("${inventory.seed.products:100000}") int productCount,
+                         @Value("${inventory.seed.orders:200000}") int orderCount,
+                         @Value("${inventory.seed.max-items-per-order:8}") int maxItemsPerOrder,
+                         @Value("${inventory.seed.order-window-days:365}") int orderWindowDays,
+                         @Value("${inventory.seed.random-seed:42}") long randomSeed,
+                         @Value("${inventory.seed.batch-size:5000}") int batchSize) {
+        if (productCount < 1 || orderCount < 0 || maxItemsPerOrder < 1 || orderWindowDays < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Invalid inventory.seed configuration");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.productCount = productCount;
+        this.orderCount = orderCount;
+        this.maxItemsPerOrder = maxItemsPerOrder;
+        this.orderWindowDays = orderWindowDays;
+        this.randomSeed = randomSeed;
+        this.batchSize = batchSize;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void seed() {
+        long start = System.nanoTime();
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        SplittableRandom random = new SplittableRandom(randomSeed);
+        
+        long firstProductId = maxId("product") + 1;
+        double[] prices = seedProducts(random, firstProductId, today);
+        long productMillis = (System.nanoTime() - start) / 1_000_000;
+        
+        long items = seedOrders(random, firstProductId, prices, today);
+        
+        restartSequence("product_seq", maxId("product"));
+        restartSequence("orders_seq", maxId("orders"));
+        restartSequence("order_item_seq", maxId("order_item"));
+        log.info("Seeded {} products in {} ms and {} orders with {} items in {} ms (seed {})",
+                productCount, productMillis, orderCount, items,
+                (System.nanoTime() - start) / 1_000_000 - productMillis, randomSeed);
+    }
+    
+    private double[] seedProducts(SplittableRandom random, long firstId, LocalDateTime today) {
+        double[] prices = new double[productCount];
+        String sql = "INSERT INTO product (id, name, description, price, quantity, category, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        for (int offset = 0; offset < productCount; offset += batchSize) {
+            int from = offset;
+            int size = Math.min(batchSize, productCount - offset);
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql,
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            int index = from + i;
+                            int category = pick(CATEGORY_CUMULATIVE, random.nextDouble());
+                            String adjective = ADJECTIVES[random.nextInt(ADJECTIVES.length)];
+                            String noun = NOUNS[random.nextInt(NOUNS.length)];
+                            // Roughly log-normal prices around the category's typical price
+                            double price = Math.max(0.99, Math.floor(CATEGORY_BASE_PRICES[category]
+                                    * Math.exp(0.6 * gaussian(random))) + 0.99);
+                            long ageMinutes = 1 + random.nextLong(2L * orderWindowDays * 24 * 60);
+                            LocalDateTime createdAt = today.minusMinutes(ageMinutes);
+                            prices[index] = price;
+                            
+                            ps.setLong(1, firstId + index);
+                            ps.setString(2, adjective + " " + noun + " " + (index + 1));
+                            ps.setString(3, adjective + " " + noun.toLowerCase() + " for everyday "
+                                    + CATEGORIES[category].toLowerCase() + " use");
+                            ps.setDouble(4, price);
+                            ps.setInt(5, stockLevel(random));
+                            ps.setString(6, CATEGORIES[category]);
+                            ps.setTimestamp(7, Timestamp.valueOf(createdAt));
+                            ps.setTimestamp(8, Timestamp.valueOf(createdAt.plusMinutes(random.nextLong(ageMinutes))));
+                        }
+                        
+                        @Override
+                        public int getBatchSize() {
+                            return size;
+                        }
+                    }));
+        }
+        return prices;
+    }
+    
+    private long seedOrders(SplittableRandom random, long firstProductId, double[] prices, LocalDateTime today) {
+        String orderSql = "INSERT INTO orders (id, customer_name, customer_email, status, total_amount, order_date) "
+                + "VALUES (?, ?, ?, ?, ?, ?)";
+        String itemSql = "INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (?, ?, ?, ?, ?)";
+        // Most customers order once or twice, a few order all the time
+        int customers = Math.max(1, orderCount / 4);
+        long nextOrderId = maxId("orders") + 1;
+        long nextItemId = maxId("order_item") + 1;
+        long items = 0;
+        
+        for (int offset = 0; offset < orderCount; offset += batchSize) {
+            int size = Math.min(batchSize, orderCount - offset);
+            List<SeedOrder> orders = new ArrayList<>(size);
+            List<SeedItem> lines = new ArrayList<>(size * 3);
+            for (int i = 0; i < size; i++) {
+                SeedOrder order = new SeedOrder();
+                order.id = nextOrderId++;
+                order.customer = skewed(random, customers);
+                // Order volume grows linearly towards today
+                double daysAgo = orderWindowDays * (1 - Math.sqrt(random.nextDouble()));
+                int hour = (int) Math.min(23, Math.max(0, Math.round(14 + 3.5 * gaussian(random))));
+                order.orderDate = today.minusDays((long) daysAgo + 1).plusHours(hour)
+                        .plusSeconds(random.nextInt(3600));
+                order.status = status(random, daysAgo);
+                
+                int lineCount = 1;
+                while (lineCount < maxItemsPerOrder && random.nextDouble() < 0.45) {
+                    lineCount++;
+                }
+                double total = 0;
+                for (int line = 0; line < lineCount; line++) {
+                    SeedItem item = new SeedItem();
+                    item.id = nextItemId++;
+                    item.orderId = order.id;
+                    int product = skewed(random, productCount);
+                    item.productId = firstProductId + product;
+                    item.quantity = random.nextDouble() < 0.8 ? 1 : 2 + random.nextInt(4);
+                    item.price = prices[product];
+                    total += item.price * item.quantity;
+                    lines.add(item);
+                }
+                order.totalAmount = Math.round(total * 100) / 100.0;
+                orders.add(order);
+            }
+            
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(orderSql, orders, orders.size(), (ps, order) -> {
+                    ps.setLong(1, order.id);
+                    ps.setString(2, customerName(order.customer));
+                    ps.setString(3, customerEmail(order.customer));
+                    ps.setString(4, order.status);
+                    ps.setDouble(5, order.totalAmount);
+                    ps.setTimestamp(6, Timestamp.valueOf(order.orderDate));
+                });
+                jdbcTemplate.batchUpdate(itemSql, lines, lines.size(), (ps, item) -> {
+                    ps.setLong(1, item.id);
+                    ps.setLong(2, item.orderId);
+                    ps.setLong(3, item.productId);
+                    ps.setInt(4, item.quantity);
+                    ps.setDouble(5, item.price);
+                });
+            });
+            items += lines.size();
+        }
+        return items;
+    }
+    
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+    
+    private void restartSequence(String sequence, long maxId) {
+        // The pooled optimizer hands out the block ending at the sequence value
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (maxId + ID_ALLOCATION_SIZE));
+    }
+    
+    private static int stockLevel(SplittableRandom random) {
+        double u = random.nextDouble();
+        if (u < 0.03) {
+            return 0;
+        }
+        if (u < 0.08) {
+            return 1 + random.nextInt(4);
+        }
+        return (int) Math.min(5000, 5 - 150 * Math.log(1 - random.nextDouble()));
+    }
+    
+    private static String status(SplittableRandom random, double daysAgo) {
+        double u = random.nextDouble();
+        if (u < 0.03) {
+            return "CANCELLED";
+        }
+        if (daysAgo < 2) {
+            return u < 0.5 ? "NEW" : u < 0.8 ? "PROCESSING" : "SHIPPED";
+        }
+        if (daysAgo < 7) {
+            return u < 0.15 ? "PROCESSING" : u < 0.6 ? "SHIPPED" : "DELIVERED";
+        }
+        return "DELIVERED";
+    }
+    
+    private static String customerName(int customer) {
+        return FIRST_NAMES[customer % FIRST_NAMES.length] + " "
+                + LAST_NAMES[(customer / FIRST_NAMES.length) % LAST_NAMES.length];
+    }
+    
+    private static String customerEmail(int customer) {
+        // Derived from the customer number alone, so a customer keeps one address across orders
+        double u = ((customer * 0x9E3779B97F4A7C15L) >>> 11) * 0x1.0p-53;
+        return FIRST_NAMES[customer % FIRST_NAMES.length].toLowerCase() + "."
+                + LAST_NAMES[(customer / FIRST_NAMES.length) % LAST_NAMES.length].toLowerCase()
+                + customer + "@" + EMAIL_DOMAINS[pick(EMAIL_DOMAIN_CUMULATIVE, u)];
+    }
+    
+    /**
+     * Picks an index in [0, size) with a Zipf-like skew towards low indexes.
+     */
+    private static int skewed(SplittableRandom random, int size) {
+        return (int) Math.min(size - 1, Math.pow(size + 1, random.nextDouble()) - 1);
+    }
+    
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller; SplittableRandom has no nextGaussian before Java 17
+        return Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+    
+    private static int pick(double[] cumulative, double u) {
+        double target = u * cumulative[cumulative.length - 1];
+        for (int i = 0; i < cumulative.length; i++) {
+            if (target < cumulative[i]) {
+                return i;
+            }
+        }
+        return cumulative.length - 1;
+    }
+    
+    private static double[] cumulative(double[] weights) {
+        double[] cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        return cumulative;
+    }
+    
+    private static class SeedOrder {
+        long id;
+        int customer;
+        String status;
+        double totalAmount;
+        LocalDateTime orderDate;
+    }
+    
+    private static class SeedItem {
+        long id;
+        long orderId;
+        long productId;
+        int quantity;
+        double price;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.inventorymanagement.utils;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Opaque cursor tokens for keyset pagination on entity ids.
+ */
+public final class KeysetCursor {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int MAX_PAGE_SIZE = 500;
+    
+    private KeysetCursor() {
+    }
+    
+    public static String encode(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Long.parseLong(value);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+    
+    public static int boundedPageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+    
+    public static <T> ResponseEntity<List<T>> toResponse(Slice<T> page, Function<T, Long> idExtractor) {
+        return okWithNextCursor(page, idExtractor).body(page.getContent());
+    }
+    
+    /**
+     * A 200 response carrying the cursor for the page after {@code page}, if there is one, for
+     * endpoints whose declared body type is wider than the page's.
+     */
+    public static <T> ResponseEntity.BodyBuilder okWithNextCursor(Slice<T> page, Function<T, Long> idExtractor) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext() && page.hasContent()) {
+            List<T> content = page.getContent();
+            response.header(NEXT_CURSOR_HEADER, encode(idExtractor.apply(content.get(content.size() - 1))));
+        }
+        return response;
+    }
+}
@@ -0,0 +1,39 @@
+-- Baseline schema, as previously generated by Hibernate from the entities.
+-- Sequences step by 50 to match the pooled optimizer (allocationSize = 50) on every entity.
+CREATE SEQUENCE product_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE orders_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE order_item_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE product (
+    id          BIGINT       NOT NULL,
+    name        VARCHAR(255),
+    description VARCHAR(255),
+    price       DOUBLE       NOT NULL,
+    quantity    INTEGER      NOT NULL,
+    category    VARCHAR(255),
+    created_at  TIMESTAMP,
+    updated_at  TIMESTAMP,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE orders (
+    id             BIGINT NOT NULL,
+    customer_name  VARCHAR(255),
+    customer_email VARCHAR(255),
+    status         VARCHAR(255),
+    total_amount   DOUBLE,
+    order_date     TIMESTAMP,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE order_item (
+    id         BIGINT  NOT NULL,
+    order_id   BIGINT  NOT NULL,
+    product_id BIGINT,
+    quantity   INTEGER NOT NULL,
+    price      DOUBLE  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE order_item ADD CONSTRAINT fk_order_item_order FOREIGN KEY (order_id) REFERENCES orders (id);
+ALTER TABLE order_item ADD CONSTRAINT fk_order_item_product FOREIGN KEY (product_id) REFERENCES product (id);
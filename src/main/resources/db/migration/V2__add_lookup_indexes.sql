@@ -0,0 +1,16 @@
+-- Secondary indexes for the repository lookups. Where a query orders by id, id is the
+-- trailing column so matches are read in order instead of being sorted.
+
+-- ProductRepository.findByCategory. quantity is deliberately not indexed: every order rewrites it,
+-- and low-stock lookups are served from memory once the application is ready.
+CREATE INDEX idx_product_category ON product (category);
+
+-- OrderRepository.findByCustomerEmail, findSummariesByCustomerEmail
+CREATE INDEX idx_orders_customer_email ON orders (customer_email, id);
+-- OrderRepository.findByStatus, findSummariesByStatus
+CREATE INDEX idx_orders_status ON orders (status, id);
+-- OrderRepository.findByOrderDateBetween, streamByOrderDateBetween
+CREATE INDEX idx_orders_order_date ON orders (order_date);
+
+-- Order.items batch fetch and OrderRepository.findLinesByOrderIds
+CREATE INDEX idx_order_item_order ON order_item (order_id, id);
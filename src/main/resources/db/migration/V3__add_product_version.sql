@@ -0,0 +1,4 @@
+-- Row version for product: bumped by every Hibernate update (@Version) and by every bulk stock
+-- UPDATE, so listeners can tell which of two committed changes is newer. updated_at cannot:
+-- it is stamped before the UPDATE waits for the row lock, so it does not follow commit order.
+ALTER TABLE product ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
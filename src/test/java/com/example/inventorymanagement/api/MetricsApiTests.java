@@ -0,0 +1,152 @@
+package com.example.inventorymanagement.api;
+
+import io.qameta.allure.*;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * API tests for the metrics exposed through the actuator endpoint.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@Epic("Operations")
+@Feature("Metrics")
+public class MetricsApiTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestConfig.TestDataInitializer testDataInitializer;
+
+    private Long productId;
+
+    @BeforeEach
+    public void setup() {
+        RestAssured.port = port;
+        RestAssured.basePath = "";
+        testDataInitializer.initializeProducts();
+        productId = testDataInitializer.getProductId("Test Product 1");
+    }
+
+    @Test
+    @Story("Endpoint Metrics")
+    @Description("Test request timings are recorded per endpoint, outcome and exception type")
+    @Severity(SeverityLevel.NORMAL)
+    public void testRequestTimingsPerEndpoint() {
+        given().get("/api/products/" + productId).then().statusCode(200);
+        given().get("/api/products/999999").then().statusCode(404);
+
+        given()
+            .param("tag", "uri:/api/products/{id}")
+            .param("tag", "outcome:SUCCESS")
+            .when()
+            .get("/actuator/metrics/http.server.requests")
+            .then()
+            .statusCode(200)
+            .body("measurements.find { it.statistic == 'COUNT' }.value", greaterThanOrEqualTo(1.0f));
+
+        given()
+            .param("tag", "uri:/api/products/{id}")
+            .param("tag", "exception:EntityNotFoundException")
+            .when()
+            .get("/actuator/metrics/http.server.requests")
+            .then()
+            .statusCode(200)
+            .body("measurements.find { it.statistic == 'COUNT' }.value", greaterThanOrEqualTo(1.0f));
+    }
+
+    @Test
+    @Story("Method Metrics")
+    @Description("Test service and repository calls are timed per class, method and outcome")
+    @Severity(SeverityLevel.NORMAL)
+    public void testServiceAndRepositoryTimings() {
+        given().get("/api/products/" + productId).then().statusCode(200);
+        given().get("/api/products/999999").then().statusCode(404);
+
+        given()
+            .param("tag", "class:ProductService")
+            .param("tag", "method:getProduct")
+            .param("tag", "outcome:SUCCESS")
+            .when()
+            .get("/actuator/metrics/inventory.service")
+            .then()
+            .statusCode(200)
+            .body("measurements.find { it.statistic == 'COUNT' }.value", greaterThanOrEqualTo(1.0f));
+
+        given()
+            .param("tag", "class:ProductService")
+            .param("tag", "exception:EntityNotFoundException")
+            .when()
+            .get("/actuator/metrics/inventory.service")
+            .then()
+            .statusCode(200);
+
+        given()
+            .param("tag", "class:ProductRepository")
+            .when()
+            .get("/actuator/metrics/inventory.repository")
+            .then()
+            .statusCode(200)
+            .body("availableTags.find { it.tag == 'method' }.values", hasItem("save"));
+    }
+
+    @Test
+    @Story("SQL Metrics")
+    @Description("Test the statements a streaming export runs on the async executor are recorded for its endpoint")
+    @Severity(SeverityLevel.NORMAL)
+    public void testStreamingExportSqlIsRecorded() throws InterruptedException {
+        given()
+            .param("start", LocalDateTime.now().minusHours(1).toString())
+            .param("end", LocalDateTime.now().plusHours(1).toString())
+            .when()
+            .get("/api/orders/export")
+            .then()
+            .statusCode(200);
+
+        // Recorded when the async dispatch that ends the request completes, just after the body is sent
+        float statements = 0;
+        for (int attempt = 0; attempt < 50 && statements == 0; attempt++) {
+            Thread.sleep(100);
+            Response metric = given()
+                .param("tag", "uri:/api/orders/export")
+                .get("/actuator/metrics/inventory.sql.statements");
+            if (metric.statusCode() == 200) {
+                statements = metric.path("measurements.find { it.statistic == 'TOTAL' }.value");
+            }
+        }
+        assertTrue(statements >= 1);
+    }
+
+    @Test
+    @Story("Cache Metrics")
+    @Description("Test the product cache reports hits and misses")
+    @Severity(SeverityLevel.MINOR)
+    public void testProductCacheMetrics() {
+        given().get("/api/products/" + productId).then().statusCode(200);
+        given().get("/api/products/" + productId).then().statusCode(200);
+
+        given()
+            .param("tag", "cache:products")
+            .param("tag", "result:hit")
+            .when()
+            .get("/actuator/metrics/cache.gets")
+            .then()
+            .statusCode(200)
+            .body("measurements[0].value", greaterThanOrEqualTo(1.0f));
+    }
+}
@@ -0,0 +1,294 @@
+package com.example.inventorymanagement.api;
+
+import com.example.inventorymanagement.repository.OrderRepository;
+import io.qameta.allure.*;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * API tests for the Order controller.
+ * These tests verify the behavior of the Order API endpoints.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@Epic("Order Management API")
+@Feature("Order Operations")
+public class OrderApiTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestConfig.TestDataInitializer testDataInitializer;
+
+    @BeforeEach
+    public void setup() {
+        RestAssured.port = port;
+        RestAssured.basePath = "/api";
+        
+        // Initialize test data
+        testDataInitializer.initializeProducts();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        // Orders reference products, so don't leave them behind for other test classes
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    @Story("Export Orders")
+    @Description("Test streaming orders in a date range as newline-delimited JSON")
+    @Severity(SeverityLevel.NORMAL)
+    public void testExportOrdersAsNdjson() {
+        Long productId = testDataInitializer.getProductId("Test Product 1");
+        for (int i = 0; i < 3; i++) {
+            createOrder(productId, 1);
+        }
+        
+        String body = given()
+            .param("start", LocalDateTime.now().minusHours(1).toString())
+            .param("end", LocalDateTime.now().plusHours(1).toString())
+            .when()
+            .get("/orders/export")
+            .then()
+            .statusCode(200)
+            .contentType(containsString("application/x-ndjson"))
+            .extract().asString();
+        
+        List<String> lines = Arrays.stream(body.split("\n"))
+            .filter(line -> !line.isBlank())
+            .collect(Collectors.toList());
+        assertEquals(3, lines.size());
+        assertTrue(lines.stream().allMatch(line -> line.startsWith("{") && line.contains("\"items\"")));
+    }
+
+    @Test
+    @Story("Export Orders")
+    @Description("Test that an export outside any order dates streams an empty body")
+    @Severity(SeverityLevel.MINOR)
+    public void testExportOrdersEmptyRange() {
+        createOrder(testDataInitializer.getProductId("Test Product 1"), 1);
+        
+        given()
+            .param("start", LocalDateTime.now().minusDays(10).toString())
+            .param("end", LocalDateTime.now().minusDays(9).toString())
+            .when()
+            .get("/orders/export")
+            .then()
+            .statusCode(200)
+            .body(emptyString());
+    }
+
+    @Test
+    @Story("Order Views")
+    @Description("Test that the summary view returns one row per order with an item count and no lines")
+    @Severity(SeverityLevel.NORMAL)
+    public void testOrderSummaryView() {
+        int orderId = createOrder(testDataInitializer.getProductId("Test Product 1"), 2);
+        
+        given()
+            .param("view", "summary")
+            .when()
+            .get("/orders/customer/test@example.com")
+            .then()
+            .statusCode(200)
+            .body("size()", is(1))
+            .body("[0].id", is(orderId))
+            .body("[0].itemCount", is(1))
+            .body("[0].customerName", is("Test Customer"))
+            .body("[0]", not(hasKey("items")));
+    }
+
+    @Test
+    @Story("Order Views")
+    @Description("Test that the lines view carries only product id, name and price for each line")
+    @Severity(SeverityLevel.NORMAL)
+    public void testOrderLinesView() {
+        Long productId = testDataInitializer.getProductId("Test Product 1");
+        createOrder(productId, 3);
+        
+        given()
+            .param("view", "lines")
+            .when()
+            .get("/orders/status/NEW")
+            .then()
+            .statusCode(200)
+            .body("size()", is(1))
+            .body("[0].items.size()", is(1))
+            .body("[0].items[0].productId", is(productId.intValue()))
+            .body("[0].items[0].productName", is("Test Product 1"))
+            .body("[0].items[0].quantity", is(3))
+            .body("[0].items[0]", not(hasKey("product")))
+            .body("[0].items[0]", not(hasKey("orderId")));
+        
+        given()
+            .param("view", "lines")
+            .when()
+            .get("/orders")
+            .then()
+            .statusCode(200)
+            .body("[0].items[0].productName", is("Test Product 1"));
+    }
+
+    @Test
+    @Story("Order Views")
+    @Description("Test that an unknown view is rejected")
+    @Severity(SeverityLevel.MINOR)
+    public void testUnknownOrderView() {
+        given()
+            .param("view", "everything")
+            .when()
+            .get("/orders")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    @Story("Order Creation")
+    @Description("Test that non-positive quantities and line totals overflowing an int are rejected without changing stock")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testCreateOrderRejectsInvalidQuantities() {
+        Long productId = testDataInitializer.getProductId("Test Product 1");
+        String overflowing = "{\"customerName\":\"Test Customer\",\"customerEmail\":\"test@example.com\",\"items\":["
+                + "{\"product\":{\"id\":" + productId + "},\"quantity\":" + Integer.MAX_VALUE + "},"
+                + "{\"product\":{\"id\":" + productId + "},\"quantity\":" + Integer.MAX_VALUE + "}]}";
+        
+        for (String order : List.of(orderJson(productId, -5), orderJson(productId, 0), overflowing)) {
+            given()
+                .contentType(ContentType.JSON)
+                .body(order)
+                .when()
+                .post("/orders")
+                .then()
+                .statusCode(400);
+        }
+        
+        given()
+            .contentType(ContentType.JSON)
+            .body("[" + overflowing + "]")
+            .when()
+            .post("/orders/batch")
+            .then()
+            .statusCode(200)
+            .body("[0].status", equalTo("REJECTED"))
+            .body("[0].reason", equalTo("Total quantity exceeds " + Integer.MAX_VALUE + " for product id: " + productId));
+        
+        given()
+            .when()
+            .get("/products/{id}", productId)
+            .then()
+            .statusCode(200)
+            .body("quantity", equalTo(10));
+    }
+
+    @Test
+    @Story("Batch Orders")
+    @Description("Test that null orders and null items in a batch are rejected by index instead of failing the batch")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCreateOrdersInBatchRejectsNulls() {
+        Long productId = testDataInitializer.getProductId("Test Product 1");
+        String batch = "[null," + orderJson(productId, 1) + ","
+                + "{\"customerName\":\"Test Customer\",\"customerEmail\":\"test@example.com\",\"items\":[null]}]";
+        
+        given()
+            .contentType(ContentType.JSON)
+            .body(batch)
+            .when()
+            .post("/orders/batch")
+            .then()
+            .statusCode(200)
+            .body("status", contains("REJECTED", "CREATED", "REJECTED"))
+            .body("[0].reason", equalTo("Order must not be null"))
+            .body("[2].reason", equalTo("Order item must reference a product"));
+    }
+
+    @Test
+    @Story("Batch Orders")
+    @Description("Test that a batch creates the orders that fit the stock and rejects the rest with a reason")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testCreateOrdersInBatch() {
+        Long productId = testDataInitializer.getProductId("Test Product 1");
+        Long otherId = testDataInitializer.getProductId("Test Product 2");
+        String batch = "[" + orderJson(productId, 6) + "," + orderJson(productId, 6) + ","
+                + orderJson(999999L, 1) + "," + orderJson(productId, 4) + ","
+                + "{\"customerName\":\"Test Customer\",\"customerEmail\":\"test@example.com\",\"items\":["
+                + "{\"product\":{\"id\":" + productId + "},\"quantity\":1},"
+                + "{\"product\":{\"id\":" + otherId + "},\"quantity\":3}]}]";
+        
+        given()
+            .contentType(ContentType.JSON)
+            .body(batch)
+            .when()
+            .post("/orders/batch")
+            .then()
+            .statusCode(200)
+            .body("status", contains("CREATED", "REJECTED", "REJECTED", "CREATED", "REJECTED"))
+            .body("index", contains(0, 1, 2, 3, 4))
+            .body("[0].orderId", notNullValue())
+            .body("[1].reason", equalTo("Not enough stock for product: Test Product 1"))
+            .body("[2].reason", equalTo("Product not found with id: 999999"))
+            .body("[4].reason", equalTo("Not enough stock for product: Test Product 1"));
+        
+        given()
+            .when()
+            .get("/products/{id}", productId)
+            .then()
+            .statusCode(200)
+            .body("quantity", equalTo(0));
+        
+        // The rejected mixed order must not have taken stock from the other product
+        given()
+            .when()
+            .get("/products/{id}", otherId)
+            .then()
+            .statusCode(200)
+            .body("quantity", equalTo(10));
+        
+        given()
+            .param("view", "summary")
+            .when()
+            .get("/orders/customer/test@example.com")
+            .then()
+            .statusCode(200)
+            .body("size()", is(2));
+    }
+
+    private String orderJson(Long productId, int quantity) {
+        return "{\"customerName\":\"Test Customer\",\"customerEmail\":\"test@example.com\","
+                + "\"items\":[{\"product\":{\"id\":" + productId + "},\"quantity\":" + quantity + "}]}";
+    }
+
+    private int createOrder(Long productId, int quantity) {
+        return given()
+            .contentType(ContentType.JSON)
+            .body(orderJson(productId, quantity))
+            .when()
+            .post("/orders")
+            .then()
+            .statusCode(201)
+            .extract().path("id");
+    }
+}
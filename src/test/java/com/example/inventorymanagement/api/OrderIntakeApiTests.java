@@ -0,0 +1,126 @@
+package com.example.inventorymanagement.api;
+
+import io.qameta.allure.*;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.ValidatableResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * API tests for asynchronous order intake: orders are accepted with 202 and a tracking id,
+ * then created by the intake worker.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "inventory.orders.async.enabled=true"
+})
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@Epic("Order Management")
+@Feature("Asynchronous Order Intake")
+public class OrderIntakeApiTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestConfig.TestDataInitializer testDataInitializer;
+
+    private Long productId;
+
+    @BeforeEach
+    public void setup() {
+        RestAssured.port = port;
+        RestAssured.basePath = "/api";
+        testDataInitializer.initializeProducts();
+        productId = testDataInitializer.getProductId("Test Product 1");
+    }
+
+    @Test
+    @Story("Queue Order")
+    @Description("Test a queued order is accepted with a tracking id and later created")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testQueuedOrderIsCreated() throws InterruptedException {
+        String trackingId = given()
+            .contentType(ContentType.JSON)
+            .body(order(1))
+            .when()
+            .post("/orders")
+            .then()
+            .statusCode(202)
+            .header("Location", containsString("/api/orders/intake/"))
+            .body("status", equalTo("QUEUED"))
+            .extract().path("trackingId");
+
+        Integer orderId = awaitCompletion(trackingId)
+            .body("status", equalTo("CREATED"))
+            .body("completedAt", notNullValue())
+            .extract().path("orderId");
+
+        given()
+            .when()
+            .get("/orders/{id}", orderId)
+            .then()
+            .statusCode(200)
+            .body("customerEmail", equalTo("intake@example.com"))
+            .body("items", hasSize(1));
+    }
+
+    @Test
+    @Story("Queue Order")
+    @Description("Test a queued order that cannot be fulfilled is reported as rejected with a reason")
+    @Severity(SeverityLevel.NORMAL)
+    public void testQueuedOrderWithInsufficientStockIsRejected() throws InterruptedException {
+        String trackingId = given()
+            .contentType(ContentType.JSON)
+            .body(order(1_000_000))
+            .when()
+            .post("/orders")
+            .then()
+            .statusCode(202)
+            .extract().path("trackingId");
+
+        awaitCompletion(trackingId)
+            .body("status", equalTo("REJECTED"))
+            .body("orderId", nullValue())
+            .body("reason", not(emptyOrNullString()));
+    }
+
+    @Test
+    @Story("Queue Order")
+    @Description("Test an unknown tracking id returns 404")
+    @Severity(SeverityLevel.MINOR)
+    public void testUnknownTrackingIdNotFound() {
+        given()
+            .when()
+            .get("/orders/intake/{trackingId}", "does-not-exist")
+            .then()
+            .statusCode(404);
+    }
+
+    private ValidatableResponse awaitCompletion(String trackingId) throws InterruptedException {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            String status = given().get("/orders/intake/{trackingId}", trackingId).then()
+                .statusCode(200)
+                .extract().path("status");
+            if (!"QUEUED".equals(status)) {
+                break;
+            }
+            Thread.sleep(100);
+        }
+        return given().get("/orders/intake/{trackingId}", trackingId).then().statusCode(200);
+    }
+
+    private String order(int quantity) {
+        return "{\"customerName\":\"Intake Customer\",\"customerEmail\":\"intake@example.com\",\"items\":["
+                + "{\"product\":{\"id\":" + productId + "},\"quantity\":" + quantity + "}]}";
+    }
+}
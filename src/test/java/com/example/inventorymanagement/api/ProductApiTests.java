@@ -13,6 +13,8 @@ import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.nio.charset.StandardCharsets;
+
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
 
@@ -58,6 +60,46 @@ public class ProductApiTests {
             .body("size()", greaterThanOrEqualTo(5));
     }
 
+    @Test
+    @Story("List Products")
+    @Description("Test walking the product list page by page with the keyset cursor")
+    @Severity(SeverityLevel.NORMAL)
+    public void testGetProductsPageByPage() {
+        String cursor = given()
+            .param("limit", 4)
+            .when()
+            .get("/products")
+            .then()
+            .statusCode(200)
+            .body("size()", equalTo(4))
+            .header("X-Next-Cursor", notNullValue())
+            .extract().header("X-Next-Cursor");
+        
+        given()
+            .param("limit", 4)
+            .param("cursor", cursor)
+            .when()
+            .get("/products")
+            .then()
+            .statusCode(200)
+            .body("size()", equalTo(2))
+            .body("[0].name", equalTo("Test Product 5"))
+            .header("X-Next-Cursor", nullValue());
+    }
+
+    @Test
+    @Story("List Products")
+    @Description("Test that a malformed cursor is rejected")
+    @Severity(SeverityLevel.MINOR)
+    public void testGetProductsWithInvalidCursor() {
+        given()
+            .param("cursor", "not-a-cursor!")
+            .when()
+            .get("/products")
+            .then()
+            .statusCode(400);
+    }
+
     @Test
     @Story("View Product Details")
     @Description("Test retrieving a specific product by its ID")
@@ -75,6 +117,57 @@ public class ProductApiTests {
             .body("category", equalTo("ELECTRONICS"));
     }
 
+    @Test
+    @Story("View Product Details")
+    @Description("Test that repeated product reads are served from the product cache")
+    @Severity(SeverityLevel.NORMAL)
+    public void testGetProductIsCached() {
+        Long productId = testDataInitializer.getProductId("Test Product 2");
+        int hitsBefore = given().get("/admin/cache/products").then().extract().path("hits");
+        
+        for (int i = 0; i < 3; i++) {
+            given()
+                .when()
+                .get("/products/{id}", productId)
+                .then()
+                .statusCode(200)
+                .body("name", equalTo("Test Product 2"));
+        }
+        
+        given()
+            .when()
+            .get("/admin/cache/products")
+            .then()
+            .statusCode(200)
+            .body("hits", greaterThanOrEqualTo(hitsBefore + 2));
+    }
+
+    @Test
+    @Story("Update Product")
+    @Description("Test that an update invalidates the cached product")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testUpdatedProductIsNotServedStale() {
+        Long productId = testDataInitializer.getProductId("Test Product 2");
+        given().get("/products/{id}", productId).then().statusCode(200);
+        
+        Product product = productRepository.findById(productId).orElseThrow();
+        product.quantity = 42;
+        given()
+            .contentType(ContentType.JSON)
+            .body(product)
+            .when()
+            .put("/products/{id}", productId)
+            .then()
+            .statusCode(200);
+        
+        given()
+            .when()
+            .get("/products/{id}", productId)
+            .then()
+            .statusCode(200)
+            .body("quantity", equalTo(42));
+    }
+
     @Test
     @Story("Create Product")
     @Description("Test creating a new product")
@@ -150,6 +243,129 @@ public class ProductApiTests {
             .body("[0].name", containsString("Test Product"));
     }
 
+    @Test
+    @Story("Search Products")
+    @Description("Test that queries too short for the trigram index still match anywhere in the name, up to the limit")
+    @Severity(SeverityLevel.MINOR)
+    public void testSearchProductsShortQueryMatchesSubstring() {
+        Product product = TestDataBuilder.createSampleProduct(null);
+        product.name = "Headphones";
+        productRepository.save(product);
+        
+        given()
+            .param("name", "ph")
+            .when()
+            .get("/products/search")
+            .then()
+            .statusCode(200)
+            .body("name", hasItem("Headphones"))
+            .body("name", everyItem(containsStringIgnoringCase("ph")));
+        
+        given()
+            .param("name", "t")
+            .param("limit", 2)
+            .when()
+            .get("/products/search")
+            .then()
+            .statusCode(200)
+            .body("size()", equalTo(2));
+    }
+
+    @Test
+    @Story("Search Products")
+    @Description("Test that search results are ranked and limited")
+    @Severity(SeverityLevel.NORMAL)
+    public void testSearchProductsRankedWithLimit() {
+        for (String name : new String[]{"Mechanical Keyboard", "Keyboard Cover", "Keyboard"}) {
+            Product product = TestDataBuilder.createSampleProduct(null);
+            product.name = name;
+            productRepository.save(product);
+        }
+        
+        given()
+            .param("name", "KEYBOARD")
+            .when()
+            .get("/products/search")
+            .then()
+            .statusCode(200)
+            .body("name", contains("Keyboard", "Keyboard Cover", "Mechanical Keyboard"));
+        
+        given()
+            .param("name", "keyboard")
+            .param("limit", 2)
+            .when()
+            .get("/products/search")
+            .then()
+            .statusCode(200)
+            .body("size()", equalTo(2));
+    }
+
+    @Test
+    @Story("Search Products")
+    @Description("Test that the search index follows product renames and deletions")
+    @Severity(SeverityLevel.NORMAL)
+    public void testSearchFollowsProductChanges() {
+        Long productId = testDataInitializer.getProductId("Test Product 3");
+        Product product = productRepository.findById(productId).orElseThrow();
+        product.name = "Renamed Gadget";
+        
+        given()
+            .contentType(ContentType.JSON)
+            .body(product)
+            .when()
+            .put("/products/{id}", productId)
+            .then()
+            .statusCode(200);
+        
+        given()
+            .param("name", "gadget")
+            .when()
+            .get("/products/search")
+            .then()
+            .statusCode(200)
+            .body("id", contains(productId.intValue()));
+        
+        given().delete("/products/{id}", productId).then().statusCode(204);
+        
+        given()
+            .param("name", "gadget")
+            .when()
+            .get("/products/search")
+            .then()
+            .statusCode(200)
+            .body("size()", equalTo(0));
+    }
+
+    @Test
+    @Story("Search Products")
+    @Description("Test prefix autocomplete of product names")
+    @Severity(SeverityLevel.NORMAL)
+    public void testAutocompleteProductNames() {
+        for (String name : new String[]{"Monitor Arm", "Monitor", "Mouse"}) {
+            Product product = TestDataBuilder.createSampleProduct(null);
+            product.name = name;
+            productRepository.save(product);
+        }
+        
+        given()
+            .param("prefix", "mon")
+            .when()
+            .get("/products/autocomplete")
+            .then()
+            .statusCode(200)
+            .body("name", contains("Monitor", "Monitor Arm"))
+            .body("[0].id", notNullValue());
+        
+        given()
+            .param("prefix", "M")
+            .param("limit", 1)
+            .when()
+            .get("/products/autocomplete")
+            .then()
+            .statusCode(200)
+            .body("name", contains("Monitor"));
+    }
+
     @Test
     @Story("Filter Products")
     @Description("Test filtering products by category")
@@ -178,4 +394,266 @@ public class ProductApiTests {
             .body("size()", greaterThanOrEqualTo(1))
             .body("[0].quantity", lessThanOrEqualTo(5));
     }
-} 
\ No newline at end of file
+
+    @Test
+    @Story("Inventory Management")
+    @Description("Test that low stock results follow stock changes from updates and orders, lowest stock first")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testLowStockFollowsStockChanges() {
+        Long updatedId = testDataInitializer.getProductId("Test Product 1");
+        Product product = productRepository.findById(updatedId).orElseThrow();
+        product.quantity = 4;
+        given()
+            .contentType(ContentType.JSON)
+            .body(product)
+            .when()
+            .put("/products/{id}", updatedId)
+            .then()
+            .statusCode(200);
+        
+        Long orderedId = testDataInitializer.getProductId("Test Product 2");
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"customerName\":\"Test Customer\",\"customerEmail\":\"test@example.com\","
+                    + "\"items\":[{\"product\":{\"id\":" + orderedId + "},\"quantity\":9}]}")
+            .when()
+            .post("/orders")
+            .then()
+            .statusCode(201);
+        
+        given()
+            .param("threshold", 5)
+            .when()
+            .get("/products/low-stock")
+            .then()
+            .statusCode(200)
+            .body("quantity", contains(1, 2, 4))
+            .body("[0].id", equalTo(orderedId.intValue()));
+    }
+
+    @Test
+    @Story("Get Products")
+    @Description("Test looking up several products at once, in request order, with unknown IDs reported")
+    @Severity(SeverityLevel.NORMAL)
+    public void testGetProductsByIds() {
+        Long third = testDataInitializer.getProductId("Test Product 3");
+        Long first = testDataInitializer.getProductId("Test Product 1");
+        
+        given()
+            .param("ids", third + ",999999," + first + "," + third)
+            .when()
+            .get("/products")
+            .then()
+            .statusCode(200)
+            .body("products.name", contains("Test Product 3", "Test Product 1"))
+            .body("missingIds", contains(999999));
+        
+        given()
+            .contentType(ContentType.JSON)
+            .body("[" + first + "," + third + "]")
+            .when()
+            .post("/products/lookup")
+            .then()
+            .statusCode(200)
+            .body("products.id", contains(first.intValue(), third.intValue()))
+            .body("missingIds", empty());
+    }
+
+    @Test
+    @Story("Inventory Management")
+    @Description("Test adjusting one product's stock by a delta, guarded against going negative")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testAdjustStock() {
+        Long productId = testDataInitializer.getProductId("Test Product 1");
+        
+        // Warm the cache so the adjustment has to invalidate it
+        given().when().get("/products/{id}", productId).then().statusCode(200).body("quantity", equalTo(10));
+        
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"delta\":-4}")
+            .when()
+            .patch("/products/{id}/stock", productId)
+            .then()
+            .statusCode(200)
+            .body("status", equalTo("APPLIED"))
+            .body("quantity", equalTo(6));
+        
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"delta\":-7}")
+            .when()
+            .patch("/products/{id}/stock", productId)
+            .then()
+            .statusCode(400);
+        
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"delta\":1}")
+            .when()
+            .patch("/products/{id}/stock", 999999)
+            .then()
+            .statusCode(404);
+        
+        given().when().get("/products/{id}", productId).then().statusCode(200).body("quantity", equalTo(6));
+    }
+
+    @Test
+    @Story("Inventory Management")
+    @Description("Test applying many stock deltas in order with a result per adjustment")
+    @Severity(SeverityLevel.NORMAL)
+    public void testAdjustStockInBulk() {
+        Long first = testDataInitializer.getProductId("Test Product 1");
+        Long second = testDataInitializer.getProductId("Test Product 2");
+        String adjustments = "[{\"productId\":" + first + ",\"delta\":5},"
+                + "{\"productId\":" + second + ",\"delta\":-11},"
+                + "{\"productId\":" + first + ",\"delta\":-15},"
+                + "{\"productId\":999999,\"delta\":1}]";
+        
+        given()
+            .contentType(ContentType.JSON)
+            .body(adjustments)
+            .when()
+            .patch("/products/stock")
+            .then()
+            .statusCode(200)
+            .body("status", contains("APPLIED", "INSUFFICIENT_STOCK", "APPLIED", "NOT_FOUND"))
+            .body("quantity", contains(15, 10, 0, null));
+        
+        given()
+            .param("threshold", 5)
+            .when()
+            .get("/products/low-stock")
+            .then()
+            .statusCode(200)
+            .body("id", hasItem(first.intValue()));
+    }
+
+    @Test
+    @Story("Import Products")
+    @Description("Test importing a CSV catalog that creates, updates and rejects rows with a per-row report")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testImportProductsCsv() {
+        Long existingId = testDataInitializer.getProductId("Test Product 1");
+        String csv = "id,name,description,price,quantity,category\n"
+                + ",Imported Widget,\"Widget, large\",12.50,40,Hardware\n"
+                + existingId + ",Renamed Product,Updated,9.99,7,Electronics\n"
+                + ",,Missing name,1.00,1,Hardware\n"
+                + ",Bad Price,Oops,abc,1,Hardware\n"
+                + "999999,Unknown,Nope,1.00,1,Hardware\n";
+        
+        given()
+            .contentType("text/csv")
+            .body(csv)
+            .when()
+            .post("/products/import")
+            .then()
+            .statusCode(200)
+            .body("rowsRead", equalTo(5))
+            .body("created", equalTo(1))
+            .body("updated", equalTo(1))
+            .body("failed", equalTo(3))
+            .body("errors.line", containsInAnyOrder(4, 5, 6))
+            .body("errorsTruncated", equalTo(false));
+        
+        given()
+            .when()
+            .get("/products/{id}", existingId)
+            .then()
+            .statusCode(200)
+            .body("name", equalTo("Renamed Product"))
+            .body("quantity", equalTo(7));
+        
+        given()
+            .param("name", "Imported Widget")
+            .when()
+            .get("/products/search")
+            .then()
+            .statusCode(200)
+            .body("[0].description", equalTo("Widget, large"));
+    }
+
+    @Test
+    @Story("Import Products")
+    @Description("Test importing rows whose text does not fit the product columns, reported per row instead of failing the import")
+    @Severity(SeverityLevel.NORMAL)
+    public void testImportProductsRejectsOverlongText() {
+        String csv = "name,description,price,quantity,category\n"
+                + "Fits,Short,1.00,1,Hardware\n"
+                + "x".repeat(256) + ",Long name,1.00,1,Hardware\n"
+                + "Long Description," + "d".repeat(256) + ",1.00,1,Hardware\n";
+        
+        given()
+            .contentType("text/csv")
+            .body(csv)
+            .when()
+            .post("/products/import")
+            .then()
+            .statusCode(200)
+            .body("rowsRead", equalTo(3))
+            .body("created", equalTo(1))
+            .body("failed", equalTo(2))
+            .body("errors.line", contains(3, 4))
+            .body("errors[0].message", containsString("name must not be longer than 255"));
+    }
+
+    @Test
+    @Story("Import Products")
+    @Description("Test that an unterminated quote ends a CSV import with a row error, keeping the rows before it")
+    @Severity(SeverityLevel.NORMAL)
+    public void testImportProductsCsvUnterminatedQuote() {
+        String csv = "name,description,price,quantity,category\n"
+                + "Before Quote,Fine,1.00,1,Quotes\n"
+                + "Broken,\"never closed,1.00,1,Quotes\n"
+                + "After Quote,Swallowed,1.00,1,Quotes\n";
+        
+        given()
+            .contentType("text/csv")
+            .body(csv)
+            .when()
+            .post("/products/import")
+            .then()
+            .statusCode(200)
+            .body("rowsRead", equalTo(2))
+            .body("created", equalTo(1))
+            .body("failed", equalTo(1))
+            .body("errors.line", contains(3))
+            .body("errors[0].message", containsString("Unterminated quoted field"));
+        
+        given()
+            .when()
+            .get("/products/category/Quotes")
+            .then()
+            .statusCode(200)
+            .body("name", contains("Before Quote"));
+    }
+
+    @Test
+    @Story("Import Products")
+    @Description("Test importing newline-delimited JSON, reporting malformed lines")
+    @Severity(SeverityLevel.NORMAL)
+    public void testImportProductsNdjson() {
+        String ndjson = "{\"name\":\"Json Gadget\",\"price\":5.0,\"quantity\":3,\"category\":\"Gadgets\"}\n"
+                + "{\"name\":\"Broken\",\n"
+                + "{\"name\":\"Negative\",\"price\":5.0,\"quantity\":-1}\n";
+        
+        given()
+            .contentType("application/x-ndjson")
+            .body(ndjson.getBytes(StandardCharsets.UTF_8))
+            .when()
+            .post("/products/import")
+            .then()
+            .statusCode(200)
+            .body("rowsRead", equalTo(3))
+            .body("created", equalTo(1))
+            .body("failed", equalTo(2))
+            .body("errors.line", contains(2, 3));
+        
+        given()
+            .when()
+            .get("/products/category/Gadgets")
+            .then()
+            .statusCode(200)
+            .body("name", contains("Json Gadget"));
+    }
+}
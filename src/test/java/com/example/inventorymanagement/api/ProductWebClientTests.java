@@ -1,14 +1,25 @@
 package com.example.inventorymanagement.api;
 
+import com.example.inventorymanagement.dto.StockLevel;
 import com.example.inventorymanagement.model.Product;
+import com.example.inventorymanagement.repository.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.context.annotation.Import;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
 /**
  * WebTestClient tests for the Product API.
  * These tests use WebTestClient which will work with both servlet and reactive endpoints.
@@ -25,6 +36,9 @@ public class ProductWebClientTests {
     @Autowired
     private TestConfig.TestDataInitializer testDataInitializer;
 
+    @Autowired
+    private ProductRepository productRepository;
+
     @BeforeEach
     public void setup() {
         // Initialize test data
@@ -146,4 +160,50 @@ public class ProductWebClientTests {
             .expectBodyList(Product.class)
             .hasSize(1);
     }
-} 
\ No newline at end of file
+
+    @Test
+    public void testStockChangesAreStreamedAsServerSentEvents() throws Exception {
+        Long productId = testDataInitializer.getProductId("Test Product 1");
+        AtomicBoolean received = new AtomicBoolean();
+        
+        // Keep changing the stock until the subscription is registered and the event arrives
+        Thread writer = new Thread(() -> {
+            for (int quantity = 30; quantity < 60 && !received.get(); quantity++) {
+                Product product = productRepository.findById(productId).orElseThrow();
+                product.quantity = quantity;
+                productRepository.save(product);
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException ex) {
+                    return;
+                }
+            }
+        });
+        
+        ServerSentEvent<StockLevel> event;
+        try {
+            writer.start();
+            event = webTestClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                    .path("/api/products/stock-events")
+                    .queryParam("productIds", productId)
+                    .build())
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<StockLevel>>() { })
+                .getResponseBody()
+                .filter(sse -> sse.data() != null)
+                .blockFirst(Duration.ofSeconds(10));
+        } finally {
+            received.set(true);
+            writer.join();
+        }
+        
+        assertNotNull(event);
+        assertEquals("stock", event.event());
+        assertEquals(productId, event.data().productId);
+        assertNotNull(event.data().updatedAt);
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.inventorymanagement.api;
+
+import com.example.inventorymanagement.model.Product;
+import com.example.inventorymanagement.repository.ProductRepository;
+import io.qameta.allure.*;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.response.ValidatableResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.example.inventorymanagement.metrics.SqlStatementFilter.STATEMENTS_HEADER;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Query budget tests: each endpoint must run a fixed number of SQL statements however many
+ * orders, lines and products it returns, so an N+1 regression fails here instead of in production.
+ * The fixture holds enough orders and products that a per-row query would blow every budget.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@Epic("Performance")
+@Feature("Query Budgets")
+public class QueryBudgetTests {
+
+    private static final int ORDERS = 12;
+    private static final int LINES_PER_ORDER = 3;
+    // An insert may have to fetch the next block of ids from its sequence first
+    private static final int SEQUENCE = 1;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestConfig.TestDataInitializer testDataInitializer;
+
+    private final List<Long> productIds = new ArrayList<>();
+    private final List<Integer> orderIds = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        RestAssured.port = port;
+        RestAssured.basePath = "/api";
+        testDataInitializer.initializeProducts();
+        productIds.clear();
+        orderIds.clear();
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < ORDERS * LINES_PER_ORDER; i++) {
+            Product product = TestDataBuilder.createSampleProduct(null);
+            product.name = "Budget Product " + i;
+            product.category = "Budget";
+            product.quantity = 1000;
+            products.add(product);
+        }
+        productRepository.saveAll(products).forEach(product -> productIds.add(product.id));
+
+        for (int i = 0; i < ORDERS; i++) {
+            StringBuilder items = new StringBuilder();
+            for (int line = 0; line < LINES_PER_ORDER; line++) {
+                items.append(line == 0 ? "" : ",")
+                        .append("{\"product\":{\"id\":").append(productIds.get(i * LINES_PER_ORDER + line))
+                        .append("},\"quantity\":1}");
+            }
+            orderIds.add(given()
+                .contentType(ContentType.JSON)
+                .body("{\"customerName\":\"Budget Customer\",\"customerEmail\":\"budget@example.com\",\"items\":["
+                        + items + "]}")
+                .when()
+                .post("/orders")
+                .then()
+                .statusCode(201)
+                .extract().path("id"));
+        }
+    }
+
+    @Test
+    @Story("Product Query Budgets")
+    @Description("Test the product read endpoints run a fixed number of statements")
+    @Severity(SeverityLevel.NORMAL)
+    public void testProductReadBudgets() {
+        withinBudget(given().param("limit", 100).get("/products"), 1);
+        withinBudget(given().param("ids", productIds.subList(0, 20)).get("/products"), 1);
+        withinBudget(given().contentType(ContentType.JSON).body(productIds.subList(0, 20))
+                .post("/products/lookup"), 1);
+        withinBudget(given().get("/products/" + productIds.get(0)), 1);
+        withinBudget(given().param("name", "Budget").get("/products/search"), 1);
+        withinBudget(given().param("prefix", "Budget").get("/products/autocomplete"), 1);
+        withinBudget(given().get("/products/category/Budget"), 1);
+        withinBudget(given().get("/products/low-stock"), 1);
+    }
+
+    @Test
+    @Story("Product Query Budgets")
+    @Description("Test the product write endpoints run a fixed number of statements")
+    @Severity(SeverityLevel.NORMAL)
+    public void testProductWriteBudgets() {
+        String product = "{\"name\":\"Budget New\",\"description\":\"d\",\"price\":5.0,\"quantity\":5,\"category\":\"Budget\"}";
+        Integer createdId = withinBudget(given().contentType(ContentType.JSON).body(product)
+                .post("/products"), 1 + SEQUENCE)
+                .statusCode(201)
+                .extract().path("id");
+        withinBudget(given().contentType(ContentType.JSON).body(product).put("/products/" + createdId), 2);
+        withinBudget(given().contentType(ContentType.JSON).body("{\"delta\":-1}")
+                .patch("/products/" + createdId + "/stock"), 2);
+
+        StringBuilder adjustments = new StringBuilder("[");
+        for (int i = 0; i < 20; i++) {
+            adjustments.append(i == 0 ? "" : ",")
+                    .append("{\"productId\":").append(productIds.get(i)).append(",\"delta\":1}");
+        }
+        withinBudget(given().contentType(ContentType.JSON).body(adjustments + "]").patch("/products/stock"), 2);
+
+        StringBuilder csv = new StringBuilder("name,price,quantity,category\n");
+        for (int i = 0; i < 50; i++) {
+            csv.append("Imported ").append(i).append(",1.50,10,Budget\n");
+        }
+        withinBudget(given().contentType("text/csv").body(csv.toString().getBytes(StandardCharsets.UTF_8))
+                .post("/products/import"), 1 + 2 * SEQUENCE);
+
+        withinBudget(given().delete("/products/" + createdId), 3);
+    }
+
+    @Test
+    @Story("Order Query Budgets")
+    @Description("Test the order read endpoints run a fixed number of statements however many orders they return")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testOrderReadBudgets() {
+        for (String view : new String[] {"full", "summary", "lines"}) {
+            int budget = view.equals("summary") ? 1 : 2;
+            withinBudget(given().param("view", view).get("/orders"), budget)
+                .body("size()", greaterThanOrEqualTo(ORDERS));
+            withinBudget(given().param("view", view).get("/orders/status/NEW"), budget)
+                .body("size()", greaterThanOrEqualTo(ORDERS));
+            withinBudget(given().param("view", view).get("/orders/customer/budget@example.com"), budget)
+                .body("size()", equalTo(ORDERS));
+        }
+        withinBudget(given().get("/orders/" + orderIds.get(0)), 1);
+        LocalDateTime now = LocalDateTime.now();
+        withinBudget(given()
+                .param("startDate", now.minusHours(1).toString())
+                .param("endDate", now.plusHours(1).toString())
+                .get("/orders/date-range"), 2)
+            .body("size()", greaterThanOrEqualTo(ORDERS));
+    }
+
+    @Test
+    @Story("Order Query Budgets")
+    @Description("Test the order write endpoints run a fixed number of statements")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testOrderWriteBudgets() {
+        String order = "{\"customerName\":\"Budget Customer\",\"customerEmail\":\"budget@example.com\",\"items\":["
+                + "{\"product\":{\"id\":" + productIds.get(0) + "},\"quantity\":1},"
+                + "{\"product\":{\"id\":" + productIds.get(1) + "},\"quantity\":1},"
+                + "{\"product\":{\"id\":" + productIds.get(2) + "},\"quantity\":1}]}";
+        withinBudget(given().contentType(ContentType.JSON).body(order).post("/orders"), 4 + 2 * SEQUENCE)
+            .statusCode(201);
+        withinBudget(given().contentType(ContentType.JSON)
+                .body("[" + String.join(",", Collections.nCopies(ORDERS, order)) + "]")
+                .post("/orders/batch"), 5 + 2 * SEQUENCE);
+        withinBudget(given().param("status", "SHIPPED").put("/orders/" + orderIds.get(0) + "/status"), 2);
+        withinBudget(given().delete("/orders/" + orderIds.get(1)), 4);
+    }
+
+    @Test
+    @Story("Admin Query Budgets")
+    @Description("Test the admin endpoints do not touch the database")
+    @Severity(SeverityLevel.MINOR)
+    public void testAdminBudgets() {
+        withinBudget(given().get("/admin/cache/products"), 0);
+        withinBudget(given().delete("/admin/cache/products"), 0);
+    }
+
+    private ValidatableResponse withinBudget(Response response, int statements) {
+        return response.then()
+            .statusCode(lessThan(300))
+            .header(STATEMENTS_HEADER, Integer::parseInt, lessThanOrEqualTo(statements));
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.inventorymanagement.api;
+
+import com.example.inventorymanagement.metrics.SlowQueryLog;
+import io.qameta.allure.*;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * API tests for the slow-query log. The threshold is zero so every statement is recorded.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "inventory.sql.slow-query.threshold=0ms",
+        "inventory.sql.slow-query.capacity=5"
+})
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@Epic("Operations")
+@Feature("Slow Query Log")
+public class SlowQueryApiTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestConfig.TestDataInitializer testDataInitializer;
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    public void setup() {
+        RestAssured.port = port;
+        RestAssured.basePath = "/api";
+        testDataInitializer.initializeProducts();
+        given().delete("/admin/slow-queries").then().statusCode(204);
+    }
+
+    @Test
+    @Story("Slow Query Log")
+    @Description("Test a slow query is recorded with its bind parameters and execution plan")
+    @Severity(SeverityLevel.NORMAL)
+    public void testSlowQueryRecordedWithPlan() throws InterruptedException {
+        given().get("/products/category/ELECTRONICS").then().statusCode(200);
+
+        Map<String, Object> query = null;
+        // Plans are captured in the background
+        for (int attempt = 0; attempt < 50 && (query == null || query.get("plan") == null); attempt++) {
+            Thread.sleep(100);
+            List<Map<String, Object>> queries = given().get("/admin/slow-queries").then()
+                .statusCode(200)
+                .extract().path("findAll { it.parameters == ['ELECTRONICS'] }");
+            query = queries.isEmpty() ? null : queries.get(0);
+        }
+
+        assertNotNull(query);
+        assertThat((String) query.get("sql"), containsStringIgnoringCase("category"));
+        assertThat((Integer) query.get("elapsedMillis"), greaterThanOrEqualTo(0));
+        // EXPLAIN ANALYZE reports how many rows the query actually scanned
+        assertThat((String) query.get("plan"), containsString("scanCount"));
+    }
+
+    @Test
+    @Story("Slow Query Log")
+    @Description("Test a locking query gets the estimated plan instead of being run again")
+    @Severity(SeverityLevel.NORMAL)
+    public void testLockingQueryIsNotAnalyzed() throws InterruptedException {
+        Long productId = testDataInitializer.getProductId("Test Product 1");
+        slowQueryLog.record("select id, quantity from product where id in (?) for update",
+                List.of(productId), 1, 150, dataSource);
+
+        String plan = null;
+        for (int attempt = 0; attempt < 50 && plan == null; attempt++) {
+            Thread.sleep(100);
+            plan = given().get("/admin/slow-queries").then()
+                .statusCode(200)
+                .extract().path("find { it.sql.endsWith('for update') }.plan");
+        }
+
+        assertNotNull(plan);
+        assertThat(plan, containsStringIgnoringCase("FOR UPDATE"));
+        assertThat(plan, not(containsString("scanCount")));
+    }
+
+    @Test
+    @Story("Slow Query Log")
+    @Description("Test the slow-query log keeps only the most recent statements")
+    @Severity(SeverityLevel.MINOR)
+    public void testSlowQueryLogIsBounded() {
+        for (int i = 0; i < 10; i++) {
+            given().get("/products/category/ELECTRONICS").then().statusCode(200);
+        }
+
+        given()
+            .when()
+            .get("/admin/slow-queries")
+            .then()
+            .statusCode(200)
+            .body("size()", equalTo(5));
+    }
+}
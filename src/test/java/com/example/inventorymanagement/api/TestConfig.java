@@ -1,6 +1,7 @@
 package com.example.inventorymanagement.api;
 
 import com.example.inventorymanagement.model.Product;
+import com.example.inventorymanagement.repository.OrderRepository;
 import com.example.inventorymanagement.repository.ProductRepository;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
@@ -25,8 +26,9 @@ public class TestConfig {
      */
     @Bean
     @Primary
-    public TestDataInitializer testDataInitializer(ProductRepository productRepository) {
-        return new TestDataInitializer(productRepository);
+    public TestDataInitializer testDataInitializer(ProductRepository productRepository,
+                                                  OrderRepository orderRepository) {
+        return new TestDataInitializer(productRepository, orderRepository);
     }
 
     /**
@@ -34,17 +36,20 @@ public class TestConfig {
      */
     public static class TestDataInitializer {
         private final ProductRepository productRepository;
+        private final OrderRepository orderRepository;
         private final Map<String, Long> productIdMap = new ConcurrentHashMap<>();
 
-        public TestDataInitializer(ProductRepository productRepository) {
+        public TestDataInitializer(ProductRepository productRepository, OrderRepository orderRepository) {
             this.productRepository = productRepository;
+            this.orderRepository = orderRepository;
         }
 
         /**
          * Initializes the database with test products.
          */
         public void initializeProducts() {
-            // Clear existing data
+            // Clear existing data (orders first, they reference products)
+            orderRepository.deleteAll();
             productRepository.deleteAll();
             productIdMap.clear();
             
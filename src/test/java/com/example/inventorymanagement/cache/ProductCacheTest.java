@@ -0,0 +1,94 @@
+package com.example.inventorymanagement.cache;
+
+import com.example.inventorymanagement.model.Product;
+import com.example.inventorymanagement.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the cache against a repository stub that can run an invalidation while a load is in
+ * flight, the way a change committing between the read and the cache write would.
+ */
+public class ProductCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private Consumer<ProductCache> duringLoad = cache -> { };
+
+    @Test
+    public void invalidatingAnotherProductKeepsTheLoadedEntry() {
+        ProductCache cache = cache();
+        duringLoad = target -> target.invalidate(2L);
+
+        cache.findById(1L);
+        cache.findById(1L);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void invalidatingTheLoadingProductDropsTheLoadedEntry() {
+        ProductCache cache = cache();
+        duringLoad = target -> target.invalidate(1L);
+
+        cache.findById(1L);
+        duringLoad = target -> { };
+        cache.findById(1L);
+        cache.findById(1L);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void bulkLoadOnlyDropsTheInvalidatedIds() {
+        ProductCache cache = cache();
+        duringLoad = target -> target.invalidate(2L);
+
+        cache.findAllById(List.of(1L, 2L));
+        duringLoad = target -> { };
+        cache.findAllById(List.of(1L, 2L));
+
+        // The second call only has to load product 2
+        assertEquals(3, loads.get());
+    }
+
+    private ProductCache cache() {
+        ProductCache[] cache = new ProductCache[1];
+        ProductRepository repository = (ProductRepository) Proxy.newProxyInstance(
+                ProductRepository.class.getClassLoader(), new Class<?>[]{ProductRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findById")) {
+                        loads.incrementAndGet();
+                        duringLoad.accept(cache[0]);
+                        return Optional.of(product((Long) args[0]));
+                    }
+                    if (method.getName().equals("findAllById")) {
+                        List<Product> products = new ArrayList<>();
+                        for (Object id : (Iterable<?>) args[0]) {
+                            loads.incrementAndGet();
+                            products.add(product((Long) id));
+                        }
+                        duringLoad.accept(cache[0]);
+                        return products;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        cache[0] = new ProductCache(repository, 100, Duration.ofMinutes(5), Duration.ofSeconds(30));
+        return cache[0];
+    }
+
+    private static Product product(Long id) {
+        Product product = new Product();
+        product.id = id;
+        product.name = "Product " + id;
+        return product;
+    }
+}
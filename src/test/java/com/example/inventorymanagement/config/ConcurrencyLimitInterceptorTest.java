@@ -0,0 +1,51 @@
+package com.example.inventorymanagement.config;
+
+import com.example.inventorymanagement.exception.ServerBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.DispatcherType;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrencyLimitInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitInterceptor interceptor =
+            new ConcurrencyLimitInterceptor(registry, 1, Duration.ofMillis(20));
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    public void rejectsRequestsBeyondTheLimitUntilAPermitIsReleased() throws Exception {
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        MockHttpServletRequest second = new MockHttpServletRequest();
+
+        assertTrue(interceptor.preHandle(first, response, null));
+        assertThrows(ServerBusyException.class, () -> interceptor.preHandle(second, response, null));
+        assertEquals(1.0, registry.get("inventory.concurrency.limit.rejected").counter().count());
+
+        interceptor.afterCompletion(first, response, null, null);
+        assertTrue(interceptor.preHandle(second, response, null));
+    }
+
+    @Test
+    public void asyncRequestReleasesItsPermitWhenHandlingMovesOffTheRequestThread() throws Exception {
+        MockHttpServletRequest streaming = new MockHttpServletRequest();
+        assertTrue(interceptor.preHandle(streaming, response, null));
+        interceptor.afterConcurrentHandlingStarted(streaming, response, null);
+
+        // The async dispatch and its completion neither take nor return a permit
+        streaming.setDispatcherType(DispatcherType.ASYNC);
+        assertTrue(interceptor.preHandle(streaming, response, null));
+        interceptor.afterCompletion(streaming, response, null, null);
+
+        MockHttpServletRequest next = new MockHttpServletRequest();
+        assertTrue(interceptor.preHandle(next, response, null));
+        assertThrows(ServerBusyException.class, () -> interceptor.preHandle(new MockHttpServletRequest(), response, null));
+    }
+}
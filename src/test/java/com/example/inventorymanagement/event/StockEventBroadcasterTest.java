@@ -0,0 +1,68 @@
+package com.example.inventorymanagement.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the broadcaster against emitters whose writes block, the way a write to a client that
+ * stopped reading does once the socket buffer is full.
+ */
+public class StockEventBroadcasterTest {
+
+    private final CountDownLatch unblock = new CountDownLatch(1);
+    private final StockEventBroadcaster broadcaster = new StockEventBroadcaster(null, 1000,
+            Duration.ofMinutes(1), Duration.ofHours(1), Duration.ofMillis(200));
+
+    @AfterEach
+    public void cleanup() {
+        unblock.countDown();
+        broadcaster.shutdown();
+    }
+
+    @Test
+    public void stalledSubscribersDoNotDelayOthersAndAreDisconnected() throws Exception {
+        broadcaster.register(new BlockingEmitter(), Set.of());
+        broadcaster.register(new BlockingEmitter(), Set.of());
+        RecordingEmitter healthy = new RecordingEmitter();
+        broadcaster.register(healthy, Set.of());
+
+        broadcaster.onProductChanged(ProductChangedEvent.stockChanged(1L, 5, LocalDateTime.now(), 1L));
+
+        assertTrue(healthy.received.await(1, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (broadcaster.subscriberCount() > 1 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(1, broadcaster.subscriberCount());
+    }
+
+    private class BlockingEmitter extends SseEmitter {
+        @Override
+        public void send(SseEventBuilder builder) {
+            try {
+                unblock.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        final CountDownLatch received = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            received.countDown();
+        }
+    }
+}
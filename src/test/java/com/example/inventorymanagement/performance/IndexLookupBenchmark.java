@@ -0,0 +1,187 @@
+package com.example.inventorymanagement.performance;
+
+import com.example.inventorymanagement.repository.OrderRepository;
+import com.example.inventorymanagement.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures each indexed repository lookup over a seeded dataset of 1M products and 1M orders,
+ * first with the V2 lookup indexes and then with them dropped, so the scan cost they remove is
+ * visible per query. Parameters are picked to be selective (the rarest category, one customer,
+ * the most recent day), which is where an index pays off. Run with:
+ * mvn test -Djacoco.skip=true -DargLine=-Xmx3g -Dtest=com.example.inventorymanagement.performance.IndexLookupBenchmark
+ * Smaller datasets: -Dindex.products=200000 -Dindex.orders=200000
+ */
+@SpringBootTest(properties = {
+        // H2 would otherwise answer a repeated query from its previous result without running it
+        "spring.datasource.url=jdbc:h2:mem:index-${random.uuid};OPTIMIZE_REUSE_RESULTS=FALSE",
+        "inventory.seed.enabled=true",
+        "inventory.seed.products=${index.products:1000000}",
+        "inventory.seed.orders=${index.orders:1000000}",
+        "inventory.sql.tracking.enabled=false",
+        "inventory.sql.slow-query.enabled=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.example.inventorymanagement=INFO",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+public class IndexLookupBenchmark {
+
+    private static final String[] LOOKUP_INDEXES = {
+            "idx_product_category", "idx_orders_customer_email",
+            "idx_orders_status", "idx_orders_order_date", "idx_order_item_order"
+    };
+    private static final String LOOKUP_INDEXES_SCRIPT = "db/migration/V2__add_lookup_indexes.sql";
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 15;
+    private static final int LINE_LOOKUP_ORDERS = 100;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    public void lookupLatencyWithAndWithoutIndexes() {
+        Map<String, Supplier<Integer>> queries = queries();
+        // Let the JIT compile both paths through Hibernate before either is timed
+        measure(queries);
+
+        Map<String, Result> indexed = measure(queries);
+        dropLookupIndexes();
+        Map<String, Result> scanned;
+        try {
+            scanned = measure(queries);
+        } finally {
+            new ResourceDatabasePopulator(new ClassPathResource(LOOKUP_INDEXES_SCRIPT)).execute(dataSource);
+        }
+
+        System.out.printf("%-36s %8s %12s %12s %12s %12s %8s%n",
+                "query", "rows", "indexed p50", "indexed p95", "scan p50", "scan p95", "speedup");
+        for (String name : queries.keySet()) {
+            Result withIndex = indexed.get(name);
+            Result withoutIndex = scanned.get(name);
+            System.out.printf("%-36s %8d %10.2fms %10.2fms %10.2fms %10.2fms %7.1fx%n",
+                    name, withIndex.rows, withIndex.p50Ms, withIndex.p95Ms, withoutIndex.p50Ms,
+                    withoutIndex.p95Ms, withoutIndex.p50Ms / withIndex.p50Ms);
+        }
+        String customerLookup = "findSummariesByCustomerEmail";
+        assertTrue(indexed.get(customerLookup).p50Ms < scanned.get(customerLookup).p50Ms,
+                "customer lookup should be faster with the index");
+    }
+
+    private Map<String, Supplier<Integer>> queries() {
+        String rareCategory = jdbcTemplate.queryForObject(
+                "SELECT category FROM product GROUP BY category ORDER BY COUNT(*), category LIMIT 1", String.class);
+        String rareStatus = jdbcTemplate.queryForObject(
+                "SELECT status FROM orders GROUP BY status ORDER BY COUNT(*), status LIMIT 1", String.class);
+        Long maxOrderId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM orders", Long.class);
+        String email = jdbcTemplate.queryForObject(
+                "SELECT customer_email FROM orders WHERE id = ?", String.class, maxOrderId / 2);
+        LocalDateTime end = jdbcTemplate.queryForObject("SELECT MAX(order_date) FROM orders", Timestamp.class)
+                .toLocalDateTime();
+        LocalDateTime start = end.minusDays(1);
+        Random random = new Random(42);
+        List<Long> orderIds = new ArrayList<>(LINE_LOOKUP_ORDERS);
+        for (int i = 0; i < LINE_LOOKUP_ORDERS; i++) {
+            orderIds.add(1 + (long) (random.nextDouble() * maxOrderId));
+        }
+
+        Map<String, Supplier<Integer>> queries = new LinkedHashMap<>();
+        queries.put("findByCategory", () -> productRepository.findByCategory(rareCategory).size());
+        queries.put("findByCustomerEmail", () -> orderRepository.findByCustomerEmail(email).size());
+        queries.put("findSummariesByCustomerEmail", () -> orderRepository.findSummariesByCustomerEmail(email).size());
+        queries.put("findByStatus", () -> orderRepository.findByStatus(rareStatus).size());
+        queries.put("findSummariesByStatus", () -> orderRepository.findSummariesByStatus(rareStatus).size());
+        queries.put("findByOrderDateBetween", () -> orderRepository.findByOrderDateBetween(start, end).size());
+        queries.put("findLinesByOrderIds", () -> orderRepository.findLinesByOrderIds(orderIds).size());
+        return queries;
+    }
+
+    private Map<String, Result> measure(Map<String, Supplier<Integer>> queries) {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (Map.Entry<String, Supplier<Integer>> query : queries.entrySet()) {
+            int rows = 0;
+            for (int i = 0; i < WARMUP; i++) {
+                rows = run(query.getValue());
+            }
+            long[] latencies = new long[ITERATIONS];
+            for (int i = 0; i < ITERATIONS; i++) {
+                long start = System.nanoTime();
+                run(query.getValue());
+                latencies[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(latencies);
+            results.put(query.getKey(), new Result(rows, percentile(latencies, 0.50), percentile(latencies, 0.95)));
+        }
+        return results;
+    }
+
+    private int run(Supplier<Integer> query) {
+        return transactionTemplate.execute(status -> {
+            int rows = query.get();
+            entityManager.clear();
+            return rows;
+        });
+    }
+
+    private void dropLookupIndexes() {
+        for (String index : LOOKUP_INDEXES) {
+            jdbcTemplate.execute("DROP INDEX " + index);
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static class Result {
+        final int rows;
+        final double p50Ms;
+        final double p95Ms;
+
+        Result(int rows, double p50Ms, double p95Ms) {
+            this.rows = rows;
+            this.p50Ms = p50Ms;
+            this.p95Ms = p95Ms;
+        }
+    }
+}
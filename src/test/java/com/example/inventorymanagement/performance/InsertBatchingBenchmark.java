@@ -0,0 +1,168 @@
+package com.example.inventorymanagement.performance;
+
+import com.example.inventorymanagement.api.TestConfig;
+import com.example.inventorymanagement.model.Order;
+import com.example.inventorymanagement.model.OrderItem;
+import com.example.inventorymanagement.model.Product;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures insert throughput for 100k products and 100k order items with JDBC batching
+ * disabled (one statement per row, as IDENTITY ids forced) and enabled (pooled sequence ids,
+ * batches of 50). Run with:
+ * mvn test -Dtest=com.example.inventorymanagement.performance.InsertBatchingBenchmark
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+public class InsertBatchingBenchmark {
+
+    private static final int PRODUCTS = 100_000;
+    private static final int ITEMS_PER_ORDER = 100;
+    private static final int ORDERS = 1_000;
+    private static final int FLUSH_INTERVAL = 1_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    public void cleanup() {
+        deleteAll();
+    }
+
+    @Test
+    public void insertThroughput() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Warm up both paths
+        insertProducts(1, 2_000);
+        insertProducts(BATCH_SIZE, 2_000);
+        deleteAll();
+
+        Result unbatched = run(statistics, 1);
+        deleteAll();
+        Result batched = run(statistics, BATCH_SIZE);
+
+        System.out.printf("Unbatched: products=%.0f rows/s, order items=%.0f rows/s, statements=%d%n",
+                unbatched.productRate, unbatched.itemRate, unbatched.statements);
+        System.out.printf("Batched:   products=%.0f rows/s, order items=%.0f rows/s, statements=%d%n",
+                batched.productRate, batched.itemRate, batched.statements);
+        assertTrue(batched.statements < unbatched.statements, "batched inserts should need fewer statements");
+    }
+
+    private Result run(Statistics statistics, int batchSize) {
+        statistics.clear();
+        long start = System.nanoTime();
+        List<Long> productIds = insertProducts(batchSize, PRODUCTS);
+        double productRate = PRODUCTS / seconds(start);
+
+        start = System.nanoTime();
+        insertOrders(batchSize, productIds.subList(0, ITEMS_PER_ORDER));
+        double itemRate = ORDERS * ITEMS_PER_ORDER / seconds(start);
+
+        return new Result(productRate, itemRate, statistics.getPrepareStatementCount());
+    }
+
+    private List<Long> insertProducts(int batchSize, int count) {
+        return transactionTemplate.execute(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            List<Long> ids = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Product product = new Product();
+                product.name = "Benchmark Product " + i;
+                product.price = 10.0 + i % 100;
+                product.quantity = 1_000_000;
+                product.category = "BENCHMARK";
+                entityManager.persist(product);
+                ids.add(product.id);
+                flushPeriodically(i, FLUSH_INTERVAL);
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return ids;
+        });
+    }
+
+    private void insertOrders(int batchSize, List<Long> productIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            for (int i = 0; i < ORDERS; i++) {
+                Order order = new Order();
+                order.customerName = "Benchmark Customer";
+                order.customerEmail = "benchmark@example.com";
+                order.totalAmount = 0.0;
+                for (Long productId : productIds) {
+                    OrderItem item = new OrderItem();
+                    item.product = entityManager.getReference(Product.class, productId);
+                    item.quantity = 1;
+                    item.price = 10.0;
+                    order.items.add(item);
+                }
+                entityManager.persist(order);
+                flushPeriodically(i, FLUSH_INTERVAL / ITEMS_PER_ORDER);
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    private void flushPeriodically(int index, int interval) {
+        // Keep the persistence context small; batching happens within each flush
+        if ((index + 1) % interval == 0) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    private void deleteAll() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM OrderItem").executeUpdate();
+            entityManager.createQuery("DELETE FROM Order").executeUpdate();
+            entityManager.createQuery("DELETE FROM Product").executeUpdate();
+        });
+    }
+
+    private static double seconds(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000_000.0;
+    }
+
+    private static class Result {
+        final double productRate;
+        final double itemRate;
+        final long statements;
+
+        Result(double productRate, double itemRate, long statements) {
+            this.productRate = productRate;
+            this.itemRate = itemRate;
+            this.statements = statements;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.inventorymanagement.performance;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects request latencies for one endpoint and summarises them as percentiles.
+ * Latencies are measured from the intended send time, so a stalled server shows up in the
+ * tail instead of silently lowering the request rate.
+ */
+public class LatencyRecorder {
+    private long[] latencies = new long[1024];
+    private int count;
+    private final AtomicLong errors = new AtomicLong();
+
+    public synchronized void record(long latencyNanos) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+    }
+
+    public void recordError() {
+        errors.incrementAndGet();
+    }
+
+    public synchronized Stats summarise(double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        Stats stats = new Stats();
+        stats.requests = count + errors.get();
+        stats.errors = errors.get();
+        stats.errorRate = stats.requests == 0 ? 0 : (double) stats.errors / stats.requests;
+        stats.throughput = count / seconds;
+        stats.p50Ms = percentile(sorted, 0.50);
+        stats.p95Ms = percentile(sorted, 0.95);
+        stats.p99Ms = percentile(sorted, 0.99);
+        return stats;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    public static class Stats {
+        public long requests;
+        public long errors;
+        public double errorRate;
+        public double offeredRate;
+        public double throughput;
+        public double p50Ms;
+        public double p95Ms;
+        public double p99Ms;
+    }
+}
@@ -0,0 +1,326 @@
+package com.example.inventorymanagement.performance;
+
+import com.example.inventorymanagement.model.Product;
+import com.example.inventorymanagement.repository.ProductRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives a mix of browse, search, order, status update and report requests at fixed arrival
+ * rates (open loop) against the locally started application, reports p50/p95/p99 latency and
+ * throughput per endpoint to target/mixed-workload-report.json, and fails if any endpoint
+ * regressed beyond the stored baseline. Run with:
+ * mvn test -Djacoco.skip=true -Dtest=com.example.inventorymanagement.performance.MixedWorkloadBenchmark
+ *
+ * Tuning (system properties): load.durationSeconds, load.warmupSeconds, load.rate.{browse,
+ * view,search,order,status,report} in requests per second, load.tolerance (relative, default
+ * 0.5), load.slackMs (absolute latency slack, default 5). Pass -Dload.updateBaseline=true to
+ * store the run as the new baseline.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.example.inventorymanagement=INFO",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@ActiveProfiles("test")
+public class MixedWorkloadBenchmark {
+
+    private static final Path BASELINE = Paths.get("src/test/resources/performance/mixed-workload-baseline.json");
+    private static final Path REPORT = Paths.get("target/mixed-workload-report.json");
+    private static final int PRODUCTS = 200;
+    private static final int SEED_ORDERS = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final List<Long> productIds = new ArrayList<>();
+    private final List<Long> orderIds = new CopyOnWriteArrayList<>();
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        deleteAll();
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = new Product();
+            product.name = "Load Product " + i;
+            product.description = "Product " + i + " for the mixed workload";
+            product.price = 5.0 + i % 50;
+            product.quantity = 1_000_000_000;
+            product.category = "Category " + i % 10;
+            products.add(product);
+        }
+        productRepository.saveAll(products).forEach(product -> productIds.add(product.id));
+
+        clientExecutor = Executors.newFixedThreadPool(8);
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(clientExecutor)
+                .build();
+        for (int i = 0; i < SEED_ORDERS; i++) {
+            HttpResponse<String> response = client.send(createOrder(), HttpResponse.BodyHandlers.ofString());
+            rememberOrder(response.body());
+        }
+    }
+
+    @AfterEach
+    public void cleanup() {
+        clientExecutor.shutdownNow();
+        deleteAll();
+    }
+
+    private void deleteAll() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM OrderItem").executeUpdate();
+            entityManager.createQuery("DELETE FROM Order").executeUpdate();
+            entityManager.createQuery("DELETE FROM Product").executeUpdate();
+        });
+    }
+
+    @Test
+    public void mixedWorkload() throws Exception {
+        List<Operation> operations = List.of(
+                new Operation("GET /api/products", rate("browse", 40), this::browse, null),
+                new Operation("GET /api/products/{id}", rate("view", 40), this::viewProduct, null),
+                new Operation("GET /api/products/search", rate("search", 20), this::search, null),
+                new Operation("POST /api/orders", rate("order", 10), this::createOrder, this::rememberOrder),
+                new Operation("PUT /api/orders/{id}/status", rate("status", 5), this::updateStatus, null),
+                new Operation("GET /api/orders/date-range", rate("report", 1), this::dateRangeReport, null));
+
+        long warmupNanos = TimeUnit.SECONDS.toNanos(Long.getLong("load.warmupSeconds", 5));
+        long durationNanos = TimeUnit.SECONDS.toNanos(Long.getLong("load.durationSeconds", 30));
+        Map<String, LatencyRecorder.Stats> results = run(operations, warmupNanos, durationNanos);
+
+        System.out.printf("%-30s %9s %7s %10s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p95 ms", "p99 ms");
+        results.forEach((endpoint, stats) -> System.out.printf("%-30s %9d %7d %10.1f %9.2f %9.2f %9.2f%n",
+                endpoint, stats.requests, stats.errors, stats.throughput, stats.p50Ms, stats.p95Ms, stats.p99Ms));
+        Files.createDirectories(REPORT.getParent());
+        objectMapper.writeValue(REPORT.toFile(), results);
+
+        if (Boolean.getBoolean("load.updateBaseline")) {
+            Files.createDirectories(BASELINE.getParent());
+            objectMapper.writeValue(BASELINE.toFile(), results);
+            System.out.println("Stored new baseline in " + BASELINE);
+            return;
+        }
+        if (!Files.exists(BASELINE)) {
+            System.out.println("No baseline at " + BASELINE + "; run with -Dload.updateBaseline=true to create one");
+            return;
+        }
+        List<String> regressions = compareWithBaseline(results, objectMapper.readValue(BASELINE.toFile(),
+                new TypeReference<LinkedHashMap<String, LatencyRecorder.Stats>>() { }));
+        regressions.forEach(regression -> System.out.println("REGRESSION " + regression));
+        assertTrue(regressions.isEmpty(), "Load test regressed against the baseline: " + regressions);
+    }
+
+    private Map<String, LatencyRecorder.Stats> run(List<Operation> operations, long warmupNanos,
+                                                   long durationNanos) throws Exception {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(operations.size());
+        Queue<CompletableFuture<Void>> inFlight = new ConcurrentLinkedQueue<>();
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long end = measureFrom + durationNanos;
+
+        for (Operation operation : operations) {
+            long period = (long) (1_000_000_000L / operation.rate);
+            AtomicLong tick = new AtomicLong();
+            scheduler.scheduleAtFixedRate(() -> {
+                // A late tick keeps its intended send time, so queueing shows up as latency
+                long intended = start + tick.getAndIncrement() * period;
+                if (intended < end) {
+                    inFlight.add(send(operation, intended, intended >= measureFrom));
+                }
+            }, 0, period, TimeUnit.NANOSECONDS);
+        }
+
+        TimeUnit.NANOSECONDS.sleep(end - System.nanoTime());
+        scheduler.shutdownNow();
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0])).get(60, TimeUnit.SECONDS);
+
+        double seconds = durationNanos / 1_000_000_000.0;
+        Map<String, LatencyRecorder.Stats> results = new LinkedHashMap<>();
+        for (Operation operation : operations) {
+            LatencyRecorder.Stats stats = operation.recorder.summarise(seconds);
+            stats.offeredRate = operation.rate;
+            results.put(operation.name, stats);
+        }
+        return results;
+    }
+
+    private CompletableFuture<Void> send(Operation operation, long intended, boolean measured) {
+        return client.sendAsync(operation.request.get(), HttpResponse.BodyHandlers.ofString())
+                .handle((response, error) -> {
+                    long latency = System.nanoTime() - intended;
+                    boolean success = error == null && response.statusCode() < 400;
+                    if (success && operation.onSuccess != null) {
+                        operation.onSuccess.accept(response.body());
+                    }
+                    if (measured) {
+                        if (success) {
+                            operation.recorder.record(latency);
+                        } else {
+                            operation.recorder.recordError();
+                        }
+                    }
+                    return null;
+                });
+    }
+
+    private List<String> compareWithBaseline(Map<String, LatencyRecorder.Stats> results,
+                                             Map<String, LatencyRecorder.Stats> baseline) {
+        double tolerance = Double.parseDouble(System.getProperty("load.tolerance", "0.5"));
+        double slackMs = Double.parseDouble(System.getProperty("load.slackMs", "5"));
+        List<String> regressions = new ArrayList<>();
+        baseline.forEach((endpoint, expected) -> {
+            LatencyRecorder.Stats actual = results.get(endpoint);
+            if (actual == null) {
+                regressions.add(endpoint + ": not exercised");
+                return;
+            }
+            if (actual.p95Ms > expected.p95Ms * (1 + tolerance) + slackMs) {
+                regressions.add(String.format("%s: p95 %.2f ms vs baseline %.2f ms", endpoint, actual.p95Ms, expected.p95Ms));
+            }
+            if (actual.p99Ms > expected.p99Ms * (1 + tolerance) + slackMs) {
+                regressions.add(String.format("%s: p99 %.2f ms vs baseline %.2f ms", endpoint, actual.p99Ms, expected.p99Ms));
+            }
+            // Compare the share of the offered rate that was served, so changed rates still compare
+            double served = actual.throughput / actual.offeredRate;
+            double expectedServed = expected.throughput / expected.offeredRate;
+            if (served < expectedServed * (1 - tolerance)) {
+                regressions.add(String.format("%s: served %.0f%% of offered load vs baseline %.0f%%",
+                        endpoint, served * 100, expectedServed * 100));
+            }
+            if (actual.errorRate > expected.errorRate + 0.01) {
+                regressions.add(String.format("%s: error rate %.2f%% vs baseline %.2f%%",
+                        endpoint, actual.errorRate * 100, expected.errorRate * 100));
+            }
+        });
+        return regressions;
+    }
+
+    private static double rate(String operation, double defaultRate) {
+        return Double.parseDouble(System.getProperty("load.rate." + operation, String.valueOf(defaultRate)));
+    }
+
+    private HttpRequest browse() {
+        return get("/api/products?limit=50");
+    }
+
+    private HttpRequest viewProduct() {
+        return get("/api/products/" + randomProductId());
+    }
+
+    private HttpRequest search() {
+        return get("/api/products/search?limit=20&name=product+" + ThreadLocalRandom.current().nextInt(PRODUCTS));
+    }
+
+    private HttpRequest createOrder() {
+        String order = "{\"customerName\":\"Load Customer\",\"customerEmail\":\"load@example.com\",\"items\":["
+                + "{\"product\":{\"id\":" + randomProductId() + "},\"quantity\":1},"
+                + "{\"product\":{\"id\":" + randomProductId() + "},\"quantity\":2}]}";
+        return HttpRequest.newBuilder(uri("/api/orders"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(order))
+                .build();
+    }
+
+    private HttpRequest updateStatus() {
+        Long orderId = orderIds.get(ThreadLocalRandom.current().nextInt(orderIds.size()));
+        String status = ThreadLocalRandom.current().nextBoolean() ? "SHIPPED" : "PROCESSING";
+        return HttpRequest.newBuilder(uri("/api/orders/" + orderId + "/status?status=" + status))
+                .PUT(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private HttpRequest dateRangeReport() {
+        LocalDateTime now = LocalDateTime.now();
+        return get("/api/orders/date-range?startDate=" + now.minusHours(1) + "&endDate=" + now.plusHours(1));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private Long randomProductId() {
+        return productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+    }
+
+    private void rememberOrder(String body) {
+        try {
+            orderIds.add(objectMapper.readTree(body).get("id").asLong());
+        } catch (Exception ex) {
+            throw new IllegalStateException("Unexpected order response: " + body, ex);
+        }
+    }
+
+    private static class Operation {
+        final String name;
+        final double rate;
+        final Supplier<HttpRequest> request;
+        final Consumer<String> onSuccess;
+        final LatencyRecorder recorder = new LatencyRecorder();
+
+        Operation(String name, double rate, Supplier<HttpRequest> request, Consumer<String> onSuccess) {
+            this.name = name;
+            this.rate = rate;
+            this.request = request;
+            this.onSuccess = onSuccess;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.inventorymanagement.performance;
+
+import com.example.inventorymanagement.api.TestConfig;
+import com.example.inventorymanagement.model.Order;
+import com.example.inventorymanagement.model.OrderItem;
+import com.example.inventorymanagement.model.Product;
+import com.example.inventorymanagement.repository.OrderRepository;
+import com.example.inventorymanagement.repository.ProductRepository;
+import com.example.inventorymanagement.service.OrderService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures JDBC round trips per order for the order write path.
+ * The legacy strategy replays the original per-line findById/save loop so both numbers
+ * come from the same run. Run with:
+ * mvn test -Dtest=com.example.inventorymanagement.performance.OrderRoundTripBenchmark
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+public class OrderRoundTripBenchmark {
+
+    private static final int LINES_PER_ORDER = 50;
+    private static final int ORDERS = 20;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> productIds = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        productIds.clear();
+        for (int i = 0; i < LINES_PER_ORDER; i++) {
+            Product product = new Product();
+            product.name = "Benchmark Product " + i;
+            product.price = 10.0 + i;
+            product.quantity = 1_000_000;
+            product.category = "BENCHMARK";
+            productIds.add(productRepository.save(product).id);
+        }
+    }
+
+    @AfterEach
+    public void cleanup() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    public void roundTripsPerOrder() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Warm up both paths
+        transactionTemplate.executeWithoutResult(status -> legacyCreateOrder(newOrder()));
+        orderService.createOrder(newOrder());
+
+        statistics.clear();
+        for (int i = 0; i < ORDERS; i++) {
+            transactionTemplate.executeWithoutResult(status -> legacyCreateOrder(newOrder()));
+        }
+        double legacy = (double) statistics.getPrepareStatementCount() / ORDERS;
+
+        statistics.clear();
+        for (int i = 0; i < ORDERS; i++) {
+            orderService.createOrder(newOrder());
+        }
+        double batched = (double) statistics.getPrepareStatementCount() / ORDERS;
+
+        System.out.printf("Round trips per %d-line order: legacy=%.1f, batched=%.1f%n",
+                LINES_PER_ORDER, legacy, batched);
+        assertTrue(batched < legacy, "batched write path should need fewer round trips");
+    }
+
+    private Order newOrder() {
+        Order order = new Order();
+        order.customerName = "Benchmark Customer";
+        order.customerEmail = "benchmark@example.com";
+        for (Long productId : productIds) {
+            OrderItem item = new OrderItem();
+            item.product = new Product();
+            item.product.id = productId;
+            item.quantity = 1;
+            order.items.add(item);
+        }
+        return order;
+    }
+
+    /**
+     * The order write path before batching: one lookup and one save per line.
+     */
+    private Order legacyCreateOrder(Order order) {
+        double total = 0;
+        for (OrderItem item : order.items) {
+            Product product = productRepository.findById(item.product.id).orElseThrow();
+            if (product.quantity < item.quantity) {
+                throw new IllegalStateException("Not enough stock for product: " + product.name);
+            }
+            product.quantity = product.quantity - item.quantity;
+            productRepository.save(product);
+            item.product = product;
+            item.price = product.price;
+            total += item.price * item.quantity;
+        }
+        order.orderDate = LocalDateTime.now();
+        order.totalAmount = total;
+        return orderRepository.save(order);
+    }
+}
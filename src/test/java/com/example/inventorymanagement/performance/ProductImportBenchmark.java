@@ -0,0 +1,101 @@
+package com.example.inventorymanagement.performance;
+
+import com.example.inventorymanagement.api.TestConfig;
+import com.example.inventorymanagement.dto.ImportReport;
+import com.example.inventorymanagement.repository.OrderRepository;
+import com.example.inventorymanagement.repository.ProductRepository;
+import com.example.inventorymanagement.service.ProductImportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures bulk import throughput for a generated 200k-row CSV catalog, streamed without
+ * materialising the file. Run with:
+ * mvn test -Dtest=com.example.inventorymanagement.performance.ProductImportBenchmark
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+public class ProductImportBenchmark {
+
+    private static final int ROWS = 200_000;
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @AfterEach
+    public void cleanup() {
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void importThroughput() throws IOException {
+        // Warm up
+        productImportService.importProducts(new CatalogStream(10_000), ProductImportService.Format.CSV);
+
+        long start = System.nanoTime();
+        ImportReport report = productImportService.importProducts(new CatalogStream(ROWS), ProductImportService.Format.CSV);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf("Imported %d rows in %.1f s: %.0f rows/s%n", report.created, seconds, report.created / seconds);
+        assertEquals(ROWS, report.created);
+        assertEquals(0, report.failed);
+    }
+
+    /**
+     * Generates CSV rows on demand so the benchmark itself keeps memory flat.
+     */
+    private static class CatalogStream extends InputStream {
+        private final int rows;
+        private int row = -1;
+        private byte[] current = "name,description,price,quantity,category\n".getBytes(StandardCharsets.UTF_8);
+        private int position;
+
+        CatalogStream(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int read() {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position == current.length) {
+                if (++row >= rows) {
+                    return -1;
+                }
+                current = String.format("Catalog Item %d,\"Supplier item %d, boxed\",%d.99,%d,Category %d%n",
+                        row, row, row % 500, row % 1000, row % 50).getBytes(StandardCharsets.UTF_8);
+                position = 0;
+            }
+            int count = Math.min(length, current.length - position);
+            System.arraycopy(current, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.inventorymanagement.performance;
+
+import com.example.inventorymanagement.api.TestConfig;
+import com.example.inventorymanagement.dto.StockAdjustment;
+import com.example.inventorymanagement.model.Product;
+import com.example.inventorymanagement.repository.OrderRepository;
+import com.example.inventorymanagement.repository.ProductRepository;
+import com.example.inventorymanagement.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares stock adjustment throughput for the full-entity update path (load, then rewrite
+ * every column) and in-place delta adjustments sent in bulk requests. Run with:
+ * mvn test -Dtest=com.example.inventorymanagement.performance.StockAdjustmentBenchmark
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+public class StockAdjustmentBenchmark {
+
+    private static final int PRODUCTS = 100;
+    private static final int ADJUSTMENTS = 20_000;
+    private static final int REQUEST_SIZE = 500;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private final List<Long> productIds = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        productIds.clear();
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = new Product();
+            product.name = "Benchmark Product " + i;
+            product.price = 10.0;
+            product.quantity = 1_000_000;
+            product.category = "BENCHMARK";
+            productIds.add(productRepository.save(product).id);
+        }
+    }
+
+    @AfterEach
+    public void cleanup() {
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void adjustmentThroughput() {
+        // Warm up both paths
+        fullUpdates(1_000);
+        deltaAdjustments(1_000);
+
+        long start = System.nanoTime();
+        fullUpdates(ADJUSTMENTS);
+        double fullRate = ADJUSTMENTS / seconds(start);
+
+        start = System.nanoTime();
+        deltaAdjustments(ADJUSTMENTS);
+        double deltaRate = ADJUSTMENTS / seconds(start);
+
+        System.out.printf("Stock adjustments per second: full update=%.0f, bulk delta=%.0f%n", fullRate, deltaRate);
+        assertEquals(1_000_000, productRepository.findById(productIds.get(0)).orElseThrow().quantity);
+        assertTrue(deltaRate > fullRate, "delta adjustments should outpace full updates");
+    }
+
+    private void fullUpdates(int count) {
+        for (int i = 0; i < count; i++) {
+            Product product = productService.getProduct(productIds.get(i % PRODUCTS));
+            Product update = new Product();
+            update.name = product.name;
+            update.description = product.description;
+            update.price = product.price;
+            update.quantity = product.quantity - 1;
+            update.category = product.category;
+            productService.updateProduct(product.id, update);
+        }
+    }
+
+    private void deltaAdjustments(int count) {
+        List<StockAdjustment> request = new ArrayList<>(REQUEST_SIZE);
+        for (int i = 0; i < count; i++) {
+            // Alternating +3 and -1 nets +1 per adjustment, putting back what the full updates took
+            request.add(new StockAdjustment(productIds.get(i % PRODUCTS), (i / PRODUCTS) % 2 == 0 ? 3 : -1));
+            if (request.size() == REQUEST_SIZE) {
+                productService.adjustStock(request);
+                request = new ArrayList<>(REQUEST_SIZE);
+            }
+        }
+        if (!request.isEmpty()) {
+            productService.adjustStock(request);
+        }
+    }
+
+    private static double seconds(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000_000.0;
+    }
+}
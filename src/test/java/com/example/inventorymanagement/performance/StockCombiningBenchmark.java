@@ -0,0 +1,122 @@
+package com.example.inventorymanagement.performance;
+
+import com.example.inventorymanagement.model.Order;
+import com.example.inventorymanagement.model.OrderItem;
+import com.example.inventorymanagement.model.Product;
+import com.example.inventorymanagement.repository.OrderRepository;
+import com.example.inventorymanagement.repository.ProductRepository;
+import com.example.inventorymanagement.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares order throughput on a single hot product for the one-transaction-per-order path
+ * and the flat-combining path. Run with:
+ * mvn test -Dtest=com.example.inventorymanagement.performance.StockCombiningBenchmark
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+        "logging.level.com.example.inventorymanagement=INFO",
+        "spring.datasource.hikari.maximum-pool-size=16"
+})
+@ActiveProfiles("test")
+public class StockCombiningBenchmark {
+
+    private static final int THREADS = 64;
+    private static final int ORDERS = 4_000;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Long productId;
+
+    @BeforeEach
+    public void setup() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        Product product = new Product();
+        product.name = "Flash Sale Product";
+        product.price = 19.99;
+        product.quantity = 10 * ORDERS;
+        product.category = "BENCHMARK";
+        productId = productRepository.save(product).id;
+    }
+
+    @AfterEach
+    public void cleanup() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    public void hotProductThroughput() throws Exception {
+        // Warm up both paths
+        run(ORDERS / 4, order -> orderService.createOrder(order));
+        run(ORDERS / 4, order -> orderService.createOrderCombined(order));
+
+        double perOrder = run(ORDERS, order -> orderService.createOrder(order));
+        double combined = run(ORDERS, order -> orderService.createOrderCombined(order));
+
+        System.out.printf("Hot product orders/s with %d threads: transaction-per-order=%.0f, combined=%.0f%n",
+                THREADS, perOrder, combined);
+        int expectedLeft = 10 * ORDERS - 2 * (ORDERS / 4) - 2 * ORDERS;
+        assertEquals(expectedLeft, productRepository.findById(productId).orElseThrow().quantity);
+    }
+
+    private double run(int orders, Consumer<Order> placement) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>(orders);
+        for (int i = 0; i < orders; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                placement.accept(newOrder());
+                return null;
+            }));
+        }
+
+        long began = System.nanoTime();
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(5, TimeUnit.MINUTES);
+        }
+        long elapsed = System.nanoTime() - began;
+        executor.shutdown();
+        return orders / (elapsed / 1_000_000_000.0);
+    }
+
+    private Order newOrder() {
+        Order order = new Order();
+        order.customerName = "Benchmark Customer";
+        order.customerEmail = "benchmark@example.com";
+        OrderItem item = new OrderItem();
+        item.product = new Product();
+        item.product.id = productId;
+        item.quantity = 1;
+        order.items.add(item);
+        return order;
+    }
+}
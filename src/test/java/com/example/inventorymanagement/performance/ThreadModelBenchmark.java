@@ -0,0 +1,176 @@
+package com.example.inventorymanagement.performance;
+
+import com.example.inventorymanagement.InventoryManagementApplication;
+import com.example.inventorymanagement.config.VirtualThreadConfig;
+import com.example.inventorymanagement.model.Product;
+import com.example.inventorymanagement.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares request handling on Tomcat's platform thread pool with handling on virtual threads
+ * behind the connection-pool limiter. Each mode starts its own application on a random port
+ * and private in-memory database, and a client keeps a fixed number of requests in flight
+ * (closed loop) with a mix of order listing, product lookup and order creation. Virtual mode is
+ * skipped with a note on JVMs before Java 21, so run it on JDK 21 or later:
+ * mvn test -Djacoco.skip=true -Dtest=com.example.inventorymanagement.performance.ThreadModelBenchmark
+ *
+ * Req/s counts successful responses only. Percentiles cover every response, including the 503s
+ * the limiter answers with and client-side timeouts, so turning requests away does not make a
+ * mode look faster than it is; the error rate is reported next to them.
+ *
+ * Tuning (system properties): threads.concurrency (requests in flight, default 1000),
+ * threads.durationSeconds (default 20), threads.warmupSeconds (default 5).
+ */
+public class ThreadModelBenchmark {
+
+    private static final int PRODUCTS = 200;
+    private static final int CONCURRENCY = Integer.getInteger("threads.concurrency", 1000);
+    private static final long WARMUP_SECONDS = Long.getLong("threads.warmupSeconds", 5);
+    private static final long DURATION_SECONDS = Long.getLong("threads.durationSeconds", 20);
+
+    @Test
+    public void compareThreadModels() throws Exception {
+        Map<String, Result> results = new LinkedHashMap<>();
+        results.put("platform", run(false, false));
+        results.put("platform + limiter", run(false, true));
+        if (VirtualThreadConfig.newVirtualThreadExecutor().isPresent()) {
+            results.put("virtual + limiter", run(true, true));
+        } else {
+            System.out.println("Virtual threads need Java 21 or later, skipping virtual mode on Java "
+                    + Runtime.version().feature());
+        }
+
+        System.out.printf("%d requests in flight, %d s per mode%n", CONCURRENCY, DURATION_SECONDS);
+        System.out.printf("%-20s %9s %7s %8s %10s %9s %9s %9s%n",
+                "Mode", "Requests", "Errors", "Error %", "Req/s", "p50 ms", "p95 ms", "p99 ms");
+        results.forEach((mode, result) -> System.out.printf("%-20s %9d %7d %8.2f %10.1f %9.2f %9.2f %9.2f%n",
+                mode, result.succeeded.requests, result.succeeded.errors, result.succeeded.errorRate * 100,
+                result.succeeded.throughput, result.all.p50Ms, result.all.p95Ms, result.all.p99Ms));
+        results.values().forEach(result -> assertTrue(result.succeeded.throughput > 0));
+    }
+
+    private Result run(boolean virtualThreads, boolean limiter) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(InventoryManagementApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:threads-" + virtualThreads + "-" + limiter + ";DB_CLOSE_DELAY=-1",
+                        "inventory.threads.virtual.enabled=" + virtualThreads,
+                        "inventory.concurrency-limit.enabled=" + limiter,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.inventorymanagement=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+                .run();
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(8);
+        try {
+            List<Long> productIds = seed(context.getBean(ProductRepository.class));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(clientExecutor)
+                    .build();
+            drive(client, port, productIds, TimeUnit.SECONDS.toNanos(WARMUP_SECONDS),
+                    new LatencyRecorder(), new LatencyRecorder());
+            LatencyRecorder succeeded = new LatencyRecorder();
+            LatencyRecorder all = new LatencyRecorder();
+            drive(client, port, productIds, TimeUnit.SECONDS.toNanos(DURATION_SECONDS), succeeded, all);
+            Result result = new Result();
+            result.succeeded = succeeded.summarise(DURATION_SECONDS);
+            result.all = all.summarise(DURATION_SECONDS);
+            return result;
+        } finally {
+            clientExecutor.shutdownNow();
+            context.close();
+        }
+    }
+
+    private List<Long> seed(ProductRepository productRepository) {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = new Product();
+            product.name = "Thread Product " + i;
+            product.description = "Product " + i + " for the thread model comparison";
+            product.price = 5.0 + i % 50;
+            product.quantity = 1_000_000_000;
+            product.category = "Category " + i % 10;
+            products.add(product);
+        }
+        List<Long> productIds = new ArrayList<>();
+        productRepository.saveAll(products).forEach(product -> productIds.add(product.id));
+        return productIds;
+    }
+
+    private void drive(HttpClient client, int port, List<Long> productIds, long durationNanos,
+                       LatencyRecorder succeeded, LatencyRecorder all) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        long end = System.nanoTime() + durationNanos;
+        while (System.nanoTime() < end) {
+            if (!inFlight.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                continue;
+            }
+            long start = System.nanoTime();
+            client.sendAsync(nextRequest(port, productIds), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long latency = System.nanoTime() - start;
+                        all.record(latency);
+                        if (error == null && response.statusCode() < 300) {
+                            succeeded.record(latency);
+                        } else {
+                            succeeded.recordError();
+                        }
+                        inFlight.release();
+                    });
+        }
+        // Let the requests still in flight finish so they do not spill into the next phase
+        inFlight.tryAcquire(CONCURRENCY, 60, TimeUnit.SECONDS);
+    }
+
+    private HttpRequest nextRequest(int port, List<Long> productIds) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long productId = productIds.get(random.nextInt(productIds.size()));
+        int pick = random.nextInt(10);
+        if (pick < 4) {
+            return HttpRequest.newBuilder(uri(port, "/api/orders?view=summary&limit=20")).GET().build();
+        }
+        if (pick < 8) {
+            return HttpRequest.newBuilder(uri(port, "/api/products/" + productId)).GET().build();
+        }
+        String order = "{\"customerName\":\"Thread Customer\",\"customerEmail\":\"threads@example.com\",\"items\":["
+                + "{\"product\":{\"id\":" + productId + "},\"quantity\":1}]}";
+        return HttpRequest.newBuilder(uri(port, "/api/orders"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(order))
+                .build();
+    }
+
+    private static class Result {
+        LatencyRecorder.Stats succeeded;
+        LatencyRecorder.Stats all;
+    }
+
+    private static URI uri(int port, String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
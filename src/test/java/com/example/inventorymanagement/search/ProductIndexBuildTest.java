@@ -0,0 +1,137 @@
+package com.example.inventorymanagement.search;
+
+import com.example.inventorymanagement.dto.StockLevel;
+import com.example.inventorymanagement.event.ProductChangedEvent;
+import com.example.inventorymanagement.model.Product;
+import com.example.inventorymanagement.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the in-memory indexes against a repository stub whose startup scan hands out rows read
+ * before a concurrent change committed, the way a page read just before a commit would.
+ */
+public class ProductIndexBuildTest {
+
+    private static final LocalDateTime READ_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Test
+    public void searchIndexKeepsChangesCommittedDuringTheBuild() {
+        Product first = product(1L, "Alpha Widget", 50);
+        Product second = product(2L, "Beta Widget", 50);
+        ProductSearchIndex[] index = new ProductSearchIndex[1];
+        index[0] = new ProductSearchIndex(scanning(List.of(first, second), () -> index[0].onProductChanged(
+                new ProductChangedEvent(ProductChangedEvent.Type.UPDATED, 2L, "Delta Widget", null, 50,
+                        READ_AT.plusSeconds(1), 1L))), false);
+
+        index[0].build();
+
+        assertEquals(List.of(2L), index[0].search("delta", 10));
+        assertTrue(index[0].search("beta", 10).isEmpty());
+    }
+
+    @Test
+    public void autocompleteIndexKeepsChangesCommittedDuringTheBuild() {
+        Product first = product(1L, "Alpha Widget", 50);
+        Product second = product(2L, "Beta Widget", 50);
+        ProductAutocompleteIndex[] index = new ProductAutocompleteIndex[1];
+        index[0] = new ProductAutocompleteIndex(scanning(List.of(first, second), () -> index[0].onProductChanged(
+                new ProductChangedEvent(ProductChangedEvent.Type.DELETED, 2L, null, null, null, null, null))));
+        assertFalse(index[0].isReady());
+
+        index[0].build();
+
+        assertTrue(index[0].isReady());
+        assertTrue(index[0].suggest("beta", 10).isEmpty());
+        assertEquals(1, index[0].suggest("alpha", 10).size());
+    }
+
+    @Test
+    public void lowStockIndexKeepsDeletionsCommittedDuringTheBuild() {
+        Product first = product(1L, "Alpha Widget", 1);
+        Product second = product(2L, "Beta Widget", 2);
+        LowStockIndex[] index = new LowStockIndex[1];
+        index[0] = new LowStockIndex(scanning(List.of(first, second), () -> index[0].onProductChanged(
+                new ProductChangedEvent(ProductChangedEvent.Type.DELETED, 2L, null, null, null, null, null))));
+
+        index[0].build();
+
+        assertEquals(List.of(1L), index[0].findBelow(10));
+    }
+
+    @Test
+    public void lowStockIndexIgnoresStockChangesArrivingAfterDeletion() {
+        Product product = product(1L, "Alpha Widget", 1);
+        LowStockIndex index = new LowStockIndex(scanning(List.of(product), () -> { }, List.of()));
+        index.build();
+
+        index.onProductChanged(new ProductChangedEvent(ProductChangedEvent.Type.DELETED, 1L, null, null, null, null, null));
+        index.onProductChanged(ProductChangedEvent.stockChanged(1L, 0, READ_AT.minusSeconds(1), 1L));
+
+        assertTrue(index.findBelow(10).isEmpty());
+    }
+
+    @Test
+    public void lowStockIndexKeepsTheLatestCommitWhenChangesArriveOutOfOrder() {
+        Product product = product(1L, "Alpha Widget", 20);
+        LowStockIndex index = new LowStockIndex(scanning(List.of(product), () -> { }, List.of()));
+        index.build();
+
+        // Version 3 committed after version 2, but its listener ran first; its updated_at was
+        // stamped earlier because it waited on the row lock behind version 2
+        index.onProductChanged(ProductChangedEvent.stockChanged(1L, 5, READ_AT.plusSeconds(1), 3L));
+        index.onProductChanged(ProductChangedEvent.stockChanged(1L, 15, READ_AT.plusSeconds(2), 2L));
+
+        assertEquals(List.of(1L), index.findBelow(10));
+    }
+
+    static Product product(Long id, String name, int quantity) {
+        Product product = new Product();
+        product.id = id;
+        product.name = name;
+        product.quantity = quantity;
+        product.updatedAt = READ_AT;
+        return product;
+    }
+
+    /**
+     * A repository whose {@code forEachInIdOrder} runs {@code duringScan} after handing out the
+     * first product, while the rest of the already-read page is still to come.
+     */
+    static ProductRepository scanning(List<Product> products, Runnable duringScan) {
+        return scanning(products, duringScan, null);
+    }
+
+    /**
+     * As {@link #scanning(List, Runnable)}, with {@code findStockLevels} answering from
+     * {@code stockLevels}, the products still in the database after the scan.
+     */
+    @SuppressWarnings("unchecked")
+    static ProductRepository scanning(List<Product> products, Runnable duringScan, List<StockLevel> stockLevels) {
+        return (ProductRepository) Proxy.newProxyInstance(ProductRepository.class.getClassLoader(),
+                new Class<?>[]{ProductRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("forEachInIdOrder")) {
+                        Consumer<Product> consumer = (Consumer<Product>) args[1];
+                        for (int i = 0; i < products.size(); i++) {
+                            consumer.accept(products.get(i));
+                            if (i == 0) {
+                                duringScan.run();
+                            }
+                        }
+                        return null;
+                    }
+                    if (method.getName().equals("findStockLevels") && stockLevels != null) {
+                        return stockLevels;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.inventorymanagement.service;
+
+import com.example.inventorymanagement.dto.OrderBatchResult;
+import com.example.inventorymanagement.dto.OrderIntakeStatus;
+import com.example.inventorymanagement.exception.OrderQueueFullException;
+import com.example.inventorymanagement.model.Order;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the intake queue against a stub order service whose first batch blocks until released,
+ * so the queue can be filled deterministically while the worker is busy.
+ */
+public class OrderIntakeQueueTest {
+
+    private static final int QUEUE_CAPACITY = 3;
+
+    private final CountDownLatch firstBatchStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    private final OrderService orderService = new OrderService(null, null, null, null, null, null, 1000) {
+        @Override
+        public List<OrderBatchResult> createOrders(List<Order> orders) {
+            if (batchSizes.isEmpty()) {
+                firstBatchStarted.countDown();
+                try {
+                    releaseFirstBatch.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            batchSizes.add(orders.size());
+            List<OrderBatchResult> results = new ArrayList<>();
+            for (int i = 0; i < orders.size(); i++) {
+                results.add("reject".equals(orders.get(i).customerName)
+                        ? OrderBatchResult.rejected(i, "Insufficient stock")
+                        : OrderBatchResult.created(i, 100L + i, 10.0));
+            }
+            return results;
+        }
+    };
+
+    private final OrderIntakeQueue queue =
+            new OrderIntakeQueue(orderService, new SimpleMeterRegistry(), true, QUEUE_CAPACITY, 10, 100);
+
+    @AfterEach
+    public void cleanup() throws InterruptedException {
+        releaseFirstBatch.countDown();
+        queue.shutdown();
+    }
+
+    @Test
+    public void rejectsSubmissionsWhenQueueIsFull() throws InterruptedException {
+        queue.submit(order("first"));
+        assertTrue(firstBatchStarted.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < QUEUE_CAPACITY; i++) {
+            queue.submit(order("queued"));
+        }
+        assertThrows(OrderQueueFullException.class, () -> queue.submit(order("overflow")));
+        assertEquals(QUEUE_CAPACITY, queue.queueSize());
+    }
+
+    @Test
+    public void groupsQueuedOrdersIntoOneBatch() throws InterruptedException {
+        OrderIntakeStatus first = queue.submit(order("first"));
+        assertTrue(firstBatchStarted.await(5, TimeUnit.SECONDS));
+        OrderIntakeStatus created = queue.submit(order("second"));
+        OrderIntakeStatus rejected = queue.submit(order("reject"));
+        assertEquals(OrderIntakeStatus.Status.QUEUED, queue.getStatus(created.trackingId).status);
+
+        releaseFirstBatch.countDown();
+        awaitCompletion(rejected.trackingId);
+
+        assertEquals(List.of(1, 2), batchSizes);
+        assertEquals(OrderIntakeStatus.Status.CREATED, queue.getStatus(first.trackingId).status);
+        OrderIntakeStatus createdStatus = queue.getStatus(created.trackingId);
+        assertEquals(OrderIntakeStatus.Status.CREATED, createdStatus.status);
+        assertEquals(100L, createdStatus.orderId);
+        OrderIntakeStatus rejectedStatus = queue.getStatus(rejected.trackingId);
+        assertEquals(OrderIntakeStatus.Status.REJECTED, rejectedStatus.status);
+        assertEquals("Insufficient stock", rejectedStatus.reason);
+    }
+
+    private void awaitCompletion(String trackingId) throws InterruptedException {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            if (queue.getStatus(trackingId).status != OrderIntakeStatus.Status.QUEUED) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    private static Order order(String customerName) {
+        Order order = new Order();
+        order.customerName = customerName;
+        return order;
+    }
+}
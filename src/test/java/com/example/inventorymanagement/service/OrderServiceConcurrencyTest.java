@@ -0,0 +1,208 @@
+package com.example.inventorymanagement.service;
+
+import com.example.inventorymanagement.dto.OrderBatchResult;
+import com.example.inventorymanagement.model.Order;
+import com.example.inventorymanagement.model.OrderItem;
+import com.example.inventorymanagement.model.Product;
+import com.example.inventorymanagement.repository.OrderRepository;
+import com.example.inventorymanagement.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Stress test for concurrent order placement.
+ * Many threads race for the last units of the same products; stock must never go negative
+ * and the number of accepted orders must match the stock that was available.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class OrderServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS = 200;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StockCombiner stockCombiner;
+
+    @BeforeEach
+    public void setup() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    public void testConcurrentOrdersNeverOversellSingleProduct() throws Exception {
+        Long productId = createProduct("Hot Product", 25);
+
+        int accepted = placeConcurrently(ATTEMPTS, i -> newOrder(1, productId));
+
+        assertEquals(25, accepted);
+        assertEquals(0, productRepository.findById(productId).orElseThrow().quantity);
+        assertEquals(25, orderRepository.count());
+    }
+
+    @Test
+    public void testConcurrentMultiLineOrdersNeverOversell() throws Exception {
+        Long first = createProduct("Hot Product A", 40);
+        Long second = createProduct("Hot Product B", 30);
+
+        // Alternate the line order so transactions touch the rows in different sequences
+        int accepted = placeConcurrently(ATTEMPTS, i -> i % 2 == 0
+                ? newOrder(2, first, second)
+                : newOrder(2, second, first));
+
+        int firstLeft = productRepository.findById(first).orElseThrow().quantity;
+        int secondLeft = productRepository.findById(second).orElseThrow().quantity;
+        assertEquals(15, accepted);
+        assertTrue(firstLeft >= 0 && secondLeft >= 0);
+        assertEquals(40 - 2 * accepted, firstLeft);
+        assertEquals(30 - 2 * accepted, secondLeft);
+    }
+
+    @Test
+    public void testCombinedOrdersNeverOversell() throws Exception {
+        Long productId = createProduct("Flash Sale Product", 25);
+
+        int accepted = placeConcurrently(ATTEMPTS, i -> newOrder(1 + i % 3, productId),
+                order -> orderService.createOrderCombined(order));
+
+        int left = productRepository.findById(productId).orElseThrow().quantity;
+        int ordered = orderRepository.findAll().stream()
+                .mapToInt(order -> order.items.get(0).quantity)
+                .sum();
+        assertTrue(accepted > 0 && left >= 0);
+        assertEquals(25, left + ordered);
+        assertEquals(accepted, orderRepository.count());
+        assertEquals(0, stockCombiner.activeSlots());
+    }
+
+    @Test
+    public void testCombinedOrderReleasesStockWhenLaterProductIsShort() throws Exception {
+        Long plenty = createProduct("Plenty", 10);
+        Long scarce = createProduct("Scarce", 1);
+
+        int accepted = placeConcurrently(1, i -> newOrder(2, plenty, scarce),
+                order -> orderService.createOrderCombined(order));
+
+        assertEquals(0, accepted);
+        assertEquals(10, productRepository.findById(plenty).orElseThrow().quantity);
+        assertEquals(1, productRepository.findById(scarce).orElseThrow().quantity);
+    }
+
+    @Test
+    public void testBatchesAndSingleOrdersNeverOversell() throws Exception {
+        Long productId = createProduct("Marketplace Product", 60);
+        AtomicInteger submissions = new AtomicInteger();
+        AtomicInteger created = new AtomicInteger();
+
+        // Every other attempt submits a batch of five orders instead of a single one
+        placeConcurrently(ATTEMPTS, i -> newOrder(1, productId), order -> {
+            if (submissions.getAndIncrement() % 2 == 0) {
+                List<Order> batch = new ArrayList<>();
+                for (int j = 0; j < 5; j++) {
+                    batch.add(newOrder(1, productId));
+                }
+                orderService.createOrders(batch).stream()
+                        .filter(result -> result.status == OrderBatchResult.Status.CREATED)
+                        .forEach(result -> created.incrementAndGet());
+            } else {
+                orderService.createOrder(order);
+                created.incrementAndGet();
+            }
+        });
+
+        assertEquals(60, created.get());
+        assertEquals(0, productRepository.findById(productId).orElseThrow().quantity);
+        assertEquals(60, orderRepository.count());
+    }
+
+    private int placeConcurrently(int attempts, OrderFactory factory) throws Exception {
+        return placeConcurrently(attempts, factory, order -> orderService.createOrder(order));
+    }
+
+    private int placeConcurrently(int attempts, OrderFactory factory, Consumer<Order> placement) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            int attempt = i;
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    placement.accept(factory.create(attempt));
+                    return true;
+                } catch (IllegalStateException ex) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int accepted = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(60, TimeUnit.SECONDS)) {
+                accepted++;
+            }
+        }
+        executor.shutdown();
+        return accepted;
+    }
+
+    private Long createProduct(String name, int quantity) {
+        Product product = new Product();
+        product.name = name;
+        product.price = 10.0;
+        product.quantity = quantity;
+        product.category = "ELECTRONICS";
+        return productRepository.save(product).id;
+    }
+
+    private Order newOrder(int quantity, Long... productIds) {
+        Order order = new Order();
+        order.customerName = "Test Customer";
+        order.customerEmail = "test@example.com";
+        for (Long productId : productIds) {
+            OrderItem item = new OrderItem();
+            item.product = new Product();
+            item.product.id = productId;
+            item.quantity = quantity;
+            order.items.add(item);
+        }
+        return order;
+    }
+
+    private interface OrderFactory {
+        Order create(int attempt);
+    }
+}
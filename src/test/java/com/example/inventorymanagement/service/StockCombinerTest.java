@@ -0,0 +1,79 @@
+package com.example.inventorymanagement.service;
+
+import com.example.inventorymanagement.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the combiner against a repository stub with plenty of stock and a transaction manager
+ * whose commit can be made to fail after the reservation has run.
+ */
+public class StockCombinerTest {
+
+    @Test
+    public void reservationIsReportedOnceCommitted() {
+        StockCombiner combiner = new StockCombiner(stockedRepository(), event -> { }, new StubTransactionManager(false),
+                true, 0, 256);
+
+        assertEquals(StockCombiner.Outcome.RESERVED, combiner.reserve(1L, 5));
+    }
+
+    @Test
+    public void failedCommitFailsTheReservation() {
+        StockCombiner combiner = new StockCombiner(stockedRepository(), event -> { }, new StubTransactionManager(true),
+                true, 0, 256);
+
+        assertThrows(TransactionSystemException.class, () -> combiner.reserve(1L, 5));
+        assertEquals(0, combiner.activeSlots());
+    }
+
+    private static ProductRepository stockedRepository() {
+        return (ProductRepository) Proxy.newProxyInstance(ProductRepository.class.getClassLoader(),
+                new Class<?>[]{ProductRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findQuantityById")) {
+                        return Optional.of(100);
+                    }
+                    if (method.getName().equals("decrementStock")) {
+                        return new int[]{1};
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static class StubTransactionManager extends AbstractPlatformTransactionManager {
+        private final boolean failCommit;
+
+        StubTransactionManager(boolean failCommit) {
+            this.failCommit = failCommit;
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            if (failCommit) {
+                throw new TransactionSystemException("Commit failed");
+            }
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.inventorymanagement.utils;
+
+import com.example.inventorymanagement.model.Product;
+import com.example.inventorymanagement.repository.OrderRepository;
+import com.example.inventorymanagement.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "inventory.seed.enabled=true",
+        "inventory.seed.products=2000",
+        "inventory.seed.orders=3000",
+        "inventory.seed.batch-size=700"
+})
+@ActiveProfiles("test")
+public class DatasetSeederTest {
+
+    private static final int PRODUCTS = 2000;
+    private static final int ORDERS = 3000;
+
+    @Autowired
+    private DatasetSeeder seeder;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void seedsConsistentOrdersAtStartup() {
+        assertTrue(productRepository.count() >= PRODUCTS);
+        assertTrue(orderRepository.count() >= ORDERS);
+        Integer emptyOrders = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM orders o WHERE NOT EXISTS (SELECT 1 FROM order_item i WHERE i.order_id = o.id)",
+                Integer.class);
+        assertEquals(0, emptyOrders);
+        Integer wrongTotals = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM orders o WHERE ABS(o.total_amount - "
+                        + "(SELECT SUM(i.price * i.quantity) FROM order_item i WHERE i.order_id = o.id)) > 0.01",
+                Integer.class);
+        assertEquals(0, wrongTotals);
+    }
+
+    @Test
+    public void newEntitiesContinuePastSeededIds() {
+        Long maxSeededId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM product", Long.class);
+
+        Product product = new Product();
+        product.name = "After Seed";
+        product.price = 1.0;
+        product.quantity = 1;
+        Product saved = productRepository.save(product);
+
+        assertTrue(saved.id > maxSeededId, "new product id " + saved.id + " must follow " + maxSeededId);
+        productRepository.deleteById(saved.id);
+    }
+
+    @Test
+    public void sameSeedProducesSameRows() {
+        long firstProduct = jdbcTemplate.queryForObject("SELECT MIN(id) FROM product", Long.class);
+        long firstOrder = jdbcTemplate.queryForObject("SELECT MIN(id) FROM orders", Long.class);
+        long nextProduct = jdbcTemplate.queryForObject("SELECT MAX(id) FROM product", Long.class) + 1;
+        long nextOrder = jdbcTemplate.queryForObject("SELECT MAX(id) FROM orders", Long.class) + 1;
+
+        // Seeding again appends a second copy after the existing rows
+        seeder.seed();
+
+        assertEquals(products(firstProduct), products(nextProduct));
+        assertEquals(orders(firstOrder), orders(nextOrder));
+    }
+
+    private List<Map<String, Object>> products(long firstId) {
+        return jdbcTemplate.queryForList("SELECT name, category, price, quantity FROM product "
+                + "WHERE id BETWEEN ? AND ? ORDER BY id", firstId, firstId + PRODUCTS - 1);
+    }
+
+    private List<Map<String, Object>> orders(long firstId) {
+        return jdbcTemplate.queryForList("SELECT customer_email, status, total_amount FROM orders "
+                + "WHERE id BETWEEN ? AND ? ORDER BY id", firstId, firstId + ORDERS - 1);
+    }
+}